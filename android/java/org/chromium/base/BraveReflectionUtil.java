@@ -5,13 +5,51 @@
 
 package org.chromium.base;
 
+import androidx.annotation.VisibleForTesting;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BraveReflectionUtil {
     private static String TAG = "BraveReflectionUtil";
 
+    // Resolved and accessible members, or the lookup exception for members that don't exist, so
+    // each member is only looked up once.
+    private static final ConcurrentHashMap<MemberKey, Object> sMethods = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<MemberKey, Object> sFields = new ConcurrentHashMap<>();
+
+    private static final class MemberKey {
+        private final Class<?> mOwner;
+        private final String mName;
+        private final Class<?>[] mParameterTypes;
+        private final int mHashCode;
+
+        MemberKey(Class<?> owner, String name, Class<?>[] parameterTypes) {
+            mOwner = owner;
+            mName = name;
+            mParameterTypes = parameterTypes;
+            mHashCode = 31 * (31 * owner.hashCode() + name.hashCode())
+                    + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) return true;
+            if (!(other instanceof MemberKey)) return false;
+            MemberKey key = (MemberKey) other;
+            return mOwner == key.mOwner && mName.equals(key.mName)
+                    && Arrays.equals(mParameterTypes, key.mParameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return mHashCode;
+        }
+    }
+
     // NOTE: For each method for invocation add appropriate test to `testMethodsForInvocationExist`
     // method in 'brave/android/javatests/org/chromium/chrome/browser/BytecodeTest.java' file with
     // checking parameter types.
@@ -34,8 +72,7 @@ public class BraveReflectionUtil {
                     }
                 }
             }
-            Method toInvoke = methodOwner.getDeclaredMethod(method, parameterTypes);
-            if (!toInvoke.isAccessible()) toInvoke.setAccessible(true);
+            Method toInvoke = getMethod(methodOwner, method, parameterTypes);
             try {
                 return toInvoke.invoke(obj, args);
             } catch (IllegalAccessException e) {
@@ -54,9 +91,7 @@ public class BraveReflectionUtil {
 
     public static Object getField(Class ownerClass, String fieldName, Object obj) {
         try {
-            Field field = ownerClass.getDeclaredField(fieldName);
-            if (!field.isAccessible()) field.setAccessible(true);
-            return field.get(obj);
+            return getDeclaredField(ownerClass, fieldName).get(obj);
         } catch (NoSuchFieldException e) {
             Log.e(TAG, "Field not found: " + e);
             assert (false);
@@ -67,6 +102,44 @@ public class BraveReflectionUtil {
         return null;
     }
 
+    @VisibleForTesting
+    static Method getMethod(Class<?> methodOwner, String method,
+            Class<?>[] parameterTypes) throws NoSuchMethodException {
+        MemberKey key = new MemberKey(methodOwner, method, parameterTypes);
+        Object cached = sMethods.get(key);
+        if (cached == null) {
+            try {
+                Method toInvoke = methodOwner.getDeclaredMethod(method, parameterTypes);
+                if (!toInvoke.isAccessible()) toInvoke.setAccessible(true);
+                cached = toInvoke;
+            } catch (NoSuchMethodException e) {
+                cached = e;
+            }
+            sMethods.put(key, cached);
+        }
+        if (cached instanceof NoSuchMethodException) throw (NoSuchMethodException) cached;
+        return (Method) cached;
+    }
+
+    @VisibleForTesting
+    static Field getDeclaredField(Class<?> ownerClass, String fieldName)
+            throws NoSuchFieldException {
+        MemberKey key = new MemberKey(ownerClass, fieldName, null);
+        Object cached = sFields.get(key);
+        if (cached == null) {
+            try {
+                Field field = ownerClass.getDeclaredField(fieldName);
+                if (!field.isAccessible()) field.setAccessible(true);
+                cached = field;
+            } catch (NoSuchFieldException e) {
+                cached = e;
+            }
+            sFields.put(key, cached);
+        }
+        if (cached instanceof NoSuchFieldException) throw (NoSuchFieldException) cached;
+        return (Field) cached;
+    }
+
     // Types should be compatible after bytecode patching
     @SuppressWarnings("EqualsIncompatibleType")
     public static Boolean EqualTypes(Class type1, Class type2) {
@@ -26,6 +26,7 @@ import org.chromium.brave_wallet.mojom.EthTxManagerProxy;
 import org.chromium.brave_wallet.mojom.JsonRpcService;
 import org.chromium.brave_wallet.mojom.KeyringService;
 import org.chromium.brave_wallet.mojom.NetworkInfo;
+import org.chromium.brave_wallet.mojom.ProviderError;
 import org.chromium.brave_wallet.mojom.SolanaTxManagerProxy;
 import org.chromium.brave_wallet.mojom.TxService;
 import org.chromium.chrome.browser.crypto_wallet.activities.BraveWalletBaseActivity;
@@ -34,8 +35,8 @@ import org.chromium.chrome.browser.crypto_wallet.observers.BraveWalletServiceObs
 import org.chromium.chrome.browser.crypto_wallet.util.AndroidUtils;
 import org.chromium.chrome.browser.crypto_wallet.util.AssetUtils;
 import org.chromium.chrome.browser.crypto_wallet.util.AsyncUtils;
-import org.chromium.chrome.browser.crypto_wallet.util.JavaUtils;
 import org.chromium.chrome.browser.crypto_wallet.util.NetworkUtils;
+import org.chromium.chrome.browser.crypto_wallet.util.NftMetadataCache;
 import org.chromium.chrome.browser.crypto_wallet.util.PortfolioHelper;
 import org.chromium.chrome.browser.crypto_wallet.util.TokenUtils;
 import org.chromium.mojo.bindings.Callbacks;
@@ -43,7 +44,9 @@ import org.chromium.mojo.bindings.Callbacks;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class PortfolioModel implements BraveWalletServiceObserverImplDelegate {
     public final LiveData<List<NftDataModel>> mNftModels;
@@ -93,55 +96,72 @@ public class PortfolioModel implements BraveWalletServiceObserverImplDelegate {
 
     private void fetchNftMetadata(List<BlockchainToken> nftList, List<NetworkInfo> allNetworkList,
             MutableLiveData<List<NftDataModel>> nftModels) {
-        // Filter out and calculate the size of supported NFTs.
-        // The total sum will be used by `MultiResponseHandler` to detect
-        // when `setWhenAllCompletedAction()` can be processed.
-        int erc721NftsSize = JavaUtils.filter(nftList, (nft -> nft.isErc721)).size();
-        int solanaNftsSize = JavaUtils.filter(nftList, (nft -> nft.coin == CoinType.SOL)).size();
-        List<NftDataModel> nftDataModels = new ArrayList<>();
-        AsyncUtils.MultiResponseHandler nftMetaDataHandler =
-                new AsyncUtils.MultiResponseHandler(erc721NftsSize + solanaNftsSize);
+        Map<String, NetworkInfo> networkLookup = NetworkUtils.getNetworkLookup(allNetworkList);
+        NftMetadataCache.load(() -> {
+            List<BlockchainToken> staleNfts = new ArrayList<>();
+            boolean hasCachedMetadata = false;
+            for (BlockchainToken userAsset : nftList) {
+                if (!NftMetadataCache.isSupported(userAsset)) continue;
+                if (NftMetadataCache.get(userAsset) != null) {
+                    hasCachedMetadata = true;
+                }
+                if (NftMetadataCache.isStale(userAsset)) {
+                    staleNfts.add(userAsset);
+                }
+            }
+            // Shows the cached metadata right away, the grid is updated again after the refresh.
+            if (hasCachedMetadata || staleNfts.isEmpty()) {
+                nftModels.postValue(createNftDataModels(nftList, networkLookup, null));
+            }
+            if (staleNfts.isEmpty()) return;
 
-        ArrayList<AsyncUtils.BaseGetNftMetadataContext> nftMetadataList = new ArrayList<>();
-        for (BlockchainToken userAsset : nftList) {
-            if (userAsset.isErc721) {
-                AsyncUtils.GetNftErc721MetadataContext nftMetadata =
-                        new AsyncUtils.GetNftErc721MetadataContext(
+            AsyncUtils.MultiResponseHandler nftMetaDataHandler =
+                    new AsyncUtils.MultiResponseHandler(staleNfts.size());
+            Map<BlockchainToken, AsyncUtils.BaseGetNftMetadataContext> responses =
+                    new IdentityHashMap<>();
+            for (BlockchainToken userAsset : staleNfts) {
+                AsyncUtils.BaseGetNftMetadataContext nftMetadata = userAsset.coin == CoinType.SOL
+                        ? new AsyncUtils.GetNftSolanaMetadataContext(
+                                nftMetaDataHandler.singleResponseComplete)
+                        : new AsyncUtils.GetNftErc721MetadataContext(
                                 nftMetaDataHandler.singleResponseComplete);
                 nftMetadata.asset = userAsset;
-                mJsonRpcService.getErc721Metadata(userAsset.contractAddress, userAsset.tokenId,
-                        userAsset.chainId, nftMetadata);
-                nftMetadataList.add(nftMetadata);
-            } else if (userAsset.isNft) {
-                if (userAsset.coin == CoinType.SOL) {
-                    // Solana NFTs.
-                    AsyncUtils.GetNftSolanaMetadataContext nftMetadata =
-                            new AsyncUtils.GetNftSolanaMetadataContext(
-                                    nftMetaDataHandler.singleResponseComplete);
-                    nftMetadata.asset = userAsset;
-                    mJsonRpcService.getSolTokenMetadata(
-                            userAsset.chainId, userAsset.contractAddress, nftMetadata);
-                    nftMetadataList.add(nftMetadata);
+                responses.put(userAsset, nftMetadata);
+                NftMetadataCache.fetch(mJsonRpcService, userAsset, nftMetadata);
+            }
+            nftMetaDataHandler.setWhenAllCompletedAction(() -> {
+                nftModels.postValue(createNftDataModels(nftList, networkLookup, responses));
+            }, AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS);
+        });
+    }
 
-                } else {
-                    // Other NFTs.
-                    nftDataModels.add(new NftDataModel(userAsset,
-                            NetworkUtils.findNetwork(
-                                    allNetworkList, userAsset.chainId, userAsset.coin),
-                            null));
+    /**
+     * Creates the NFT models from the metadata cache. A failed response is only shown when there
+     * is no cached metadata for the NFT.
+     */
+    private static List<NftDataModel> createNftDataModels(List<BlockchainToken> nftList,
+            Map<String, NetworkInfo> networkLookup,
+            Map<BlockchainToken, AsyncUtils.BaseGetNftMetadataContext> responses) {
+        List<NftDataModel> nftDataModels = new ArrayList<>();
+        for (BlockchainToken userAsset : nftList) {
+            if (!userAsset.isErc721 && !userAsset.isNft) continue;
+            NetworkInfo networkInfo = networkLookup.get(
+                    NetworkUtils.getNetworkKey(userAsset.chainId, userAsset.coin));
+            NftMetadata nftMetadata = null;
+            if (NftMetadataCache.isSupported(userAsset)) {
+                String tokenMetadata = NftMetadataCache.get(userAsset);
+                AsyncUtils.BaseGetNftMetadataContext response =
+                        responses != null ? responses.get(userAsset) : null;
+                if (tokenMetadata != null) {
+                    nftMetadata = new NftMetadata(tokenMetadata, ProviderError.SUCCESS, "");
+                } else if (response != null && response.errorCode != null) {
+                    nftMetadata = new NftMetadata(
+                            response.tokenMetadata, response.errorCode, response.errorMessage);
                 }
             }
+            nftDataModels.add(new NftDataModel(userAsset, networkInfo, nftMetadata));
         }
-        nftMetaDataHandler.setWhenAllCompletedAction(() -> {
-            for (AsyncUtils.BaseGetNftMetadataContext metadata : nftMetadataList) {
-                nftDataModels.add(new NftDataModel(metadata.asset,
-                        NetworkUtils.findNetwork(
-                                allNetworkList, metadata.asset.chainId, metadata.asset.coin),
-                        new NftMetadata(metadata.tokenMetadata, metadata.errorCode,
-                                metadata.errorMessage)));
-            }
-            nftModels.postValue(nftDataModels);
-        });
+        return nftDataModels;
     }
 
     public void discoverAssetsOnAllSupportedChains() {
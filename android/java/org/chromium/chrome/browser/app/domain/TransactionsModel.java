@@ -39,7 +39,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -63,6 +65,16 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
     public List<AccountInfo> mAllAccountInfoList;
     public LiveData<Boolean> mIsLoading;
 
+    // Parsed transactions of the last published list by transaction id, in display order.
+    private LinkedHashMap<String, WalletListItemModel> mTxItemsById;
+    // Prices and balances used to parse the last full list, by chain id.
+    private final Map<String, AssetAccountsNetworkBalance> mNetworkBalancesByChainId;
+    // Estimated Solana fees of the parsed transactions, by transaction id.
+    private final Map<String, Long> mSolanaFeesByTxId;
+    // Transactions changed while a full update was running, applied once it completes.
+    private final List<TransactionInfo> mPendingTxChanges;
+    private boolean mIsUpdating;
+
     public TransactionsModel(Context context, TxService txService, KeyringService keyringService,
             BlockchainRegistry blockchainRegistry, JsonRpcService jsonRpcService,
             EthTxManagerProxy ethTxManagerProxy, SolanaTxManagerProxy solanaTxManagerProxy,
@@ -84,6 +96,10 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
         mIsLoading = _mIsLoading;
         mParsedTransactions = _mParsedTransactions;
         mAllAccountInfoList = Collections.emptyList();
+        mTxItemsById = new LinkedHashMap<>();
+        mNetworkBalancesByChainId = new HashMap<>();
+        mSolanaFeesByTxId = new HashMap<>();
+        mPendingTxChanges = new ArrayList<>();
         addServiceObservers();
     }
 
@@ -95,6 +111,7 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
             if (JavaUtils.anyNull(
                         mJsonRpcService, mKeyringService, mActivityRef, mActivityRef.get()))
                 return;
+            mIsUpdating = true;
             NetworkModel.getAllNetworks(mJsonRpcService, mSharedData.getSupportedCryptoCoins(), allNetworks -> {
                 mAllNetworkInfoList = allNetworks;
                 mKeyringService.getAllAccounts(allAccounts -> {
@@ -115,7 +132,8 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
                                         .filter(tx -> tx.txStatus != TransactionStatus.REJECTED)
                                         .toArray(TransactionInfo[] ::new);
                         if (filteredTransactions.length == 0) {
-                            postTxListResponse(Collections.emptyList());
+                            onFullUpdateCompleted(Collections.emptyList(),
+                                    Collections.emptyList(), Collections.emptyMap());
                             return;
                         }
                         // Fetch tokens, balances, price etc.
@@ -130,6 +148,11 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
                                                                    -> transactionInfo.chainId.equals(
                                                                            networkInfo.chainId)))
                                         .collect(Collectors.toList());
+                        if (txNetworks.isEmpty()) {
+                            onFullUpdateCompleted(Collections.emptyList(),
+                                    Collections.emptyList(), Collections.emptyMap());
+                            return;
+                        }
                         for (NetworkInfo networkInfo : txNetworks) {
                             var accountInfoListPerCoin =
                                     mAllAccountInfoList.stream()
@@ -197,15 +220,137 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
                         activityRef.get(), txInfo, txNetwork, parsedTx, txAccountInfo);
                 walletListItemModelList.add(itemModel);
             }
-            postTxListResponse(walletListItemModelList);
+            onFullUpdateCompleted(
+                    walletListItemModelList, assetAccountsNetworkBalances, perTxSolanaFee);
         });
     }
 
+    private void onFullUpdateCompleted(List<WalletListItemModel> walletListItemModelList,
+            List<AssetAccountsNetworkBalance> assetAccountsNetworkBalances,
+            Map<String, Long> perTxSolanaFee) {
+        List<TransactionInfo> pendingTxChanges;
+        synchronized (mLock) {
+            mIsUpdating = false;
+            mTxItemsById = new LinkedHashMap<>();
+            for (WalletListItemModel item : walletListItemModelList) {
+                mTxItemsById.put(item.getTransactionInfo().id, item);
+            }
+            mNetworkBalancesByChainId.clear();
+            for (AssetAccountsNetworkBalance balance : assetAccountsNetworkBalances) {
+                mNetworkBalancesByChainId.put(balance.networkInfo.chainId, balance);
+            }
+            mSolanaFeesByTxId.clear();
+            mSolanaFeesByTxId.putAll(perTxSolanaFee);
+            pendingTxChanges = new ArrayList<>(mPendingTxChanges);
+            mPendingTxChanges.clear();
+        }
+        postTxListResponse(walletListItemModelList);
+        for (TransactionInfo txInfo : pendingTxChanges) {
+            applyTxChange(txInfo, false);
+        }
+    }
+
     private void postTxListResponse(List<WalletListItemModel> walletListItemModelList) {
         _mParsedTransactions.postValue(walletListItemModelList);
         _mIsLoading.postValue(false);
     }
 
+    /**
+     * Applies a single added, updated or removed transaction to the published list. Only the
+     * changed transaction is parsed again, using the networks, prices and balances cached by the
+     * last full update. Falls back to a full update when that context is missing, e.g. for a
+     * transaction on a network or from an account the list has not seen yet.
+     */
+    private void applyTxChange(TransactionInfo txInfo, boolean isNew) {
+        AssetAccountsNetworkBalance txExtraData;
+        AccountInfo txAccountInfo;
+        NetworkInfo txNetwork;
+        synchronized (mLock) {
+            if (mIsUpdating) {
+                mPendingTxChanges.add(txInfo);
+                return;
+            }
+            if (txInfo.txStatus == TransactionStatus.REJECTED) {
+                if (mTxItemsById.containsKey(txInfo.id)) {
+                    LinkedHashMap<String, WalletListItemModel> items =
+                            new LinkedHashMap<>(mTxItemsById);
+                    items.remove(txInfo.id);
+                    mSolanaFeesByTxId.remove(txInfo.id);
+                    publishTxItems(items);
+                }
+                return;
+            }
+            txExtraData = mNetworkBalancesByChainId.get(txInfo.chainId);
+            txAccountInfo = Utils.findAccount(
+                    mAllAccountInfoList.toArray(new AccountInfo[0]), txInfo.fromAccountId);
+            txNetwork = NetworkUtils.findNetwork(
+                    mAllNetworkInfoList, txInfo.chainId, txInfo.fromAccountId.coin);
+        }
+        BraveWalletBaseActivity activity = mActivityRef != null ? mActivityRef.get() : null;
+        if (activity == null) {
+            return;
+        }
+        if (JavaUtils.anyNull(txExtraData, txAccountInfo, txNetwork)) {
+            update(mActivityRef);
+            return;
+        }
+
+        Long cachedSolanaFee;
+        synchronized (mLock) {
+            cachedSolanaFee = mSolanaFeesByTxId.get(txInfo.id);
+        }
+        if (cachedSolanaFee != null && txInfo.txStatus != TransactionStatus.UNAPPROVED) {
+            // The fee of a transaction that is no longer editable doesn't change.
+            parseTxChange(activity, txInfo, isNew, txExtraData, txAccountInfo, txNetwork,
+                    cachedSolanaFee);
+            return;
+        }
+        SolanaTransactionsGasHelper solanaTransactionsGasHelper =
+                new SolanaTransactionsGasHelper(activity, new TransactionInfo[] {txInfo});
+        solanaTransactionsGasHelper.maybeGetSolanaGasEstimations(() -> {
+            Long solanaFee = solanaTransactionsGasHelper.getPerTxFee().get(txInfo.id);
+            parseTxChange(activity, txInfo, isNew, txExtraData, txAccountInfo, txNetwork,
+                    solanaFee != null ? solanaFee : 0);
+        });
+    }
+
+    private void parseTxChange(BraveWalletBaseActivity activity, TransactionInfo txInfo,
+            boolean isNew, AssetAccountsNetworkBalance txExtraData, AccountInfo txAccountInfo,
+            NetworkInfo txNetwork, long solanaEstimatedTxFee) {
+        synchronized (mLock) {
+            // A full update started or finished meanwhile, it will pick the change up.
+            if (mIsUpdating || mNetworkBalancesByChainId.get(txInfo.chainId) != txExtraData) {
+                if (mIsUpdating) mPendingTxChanges.add(txInfo);
+                return;
+            }
+            ParsedTransaction parsedTx = ParsedTransaction.parseTransaction(txInfo, txNetwork,
+                    mAllAccountInfoList.toArray(new AccountInfo[0]), txExtraData.assetPrices,
+                    solanaEstimatedTxFee, txExtraData.userAssetsList,
+                    txExtraData.nativeAssetsBalances, txExtraData.blockchainTokensBalances);
+            WalletListItemModel itemModel =
+                    Utils.makeWalletItem(activity, txInfo, txNetwork, parsedTx, txAccountInfo);
+            mSolanaFeesByTxId.put(txInfo.id, solanaEstimatedTxFee);
+
+            LinkedHashMap<String, WalletListItemModel> items = new LinkedHashMap<>();
+            if (isNew && !mTxItemsById.containsKey(txInfo.id)) {
+                // New transactions are shown on top.
+                items.put(txInfo.id, itemModel);
+                items.putAll(mTxItemsById);
+            } else {
+                items.putAll(mTxItemsById);
+                items.put(txInfo.id, itemModel);
+            }
+            publishTxItems(items);
+        }
+    }
+
+    // Publishes a new list instance, unchanged transactions keep their item instances so the UI
+    // can diff the lists and only rebind the items that changed.
+    private void publishTxItems(LinkedHashMap<String, WalletListItemModel> items) {
+        mTxItemsById = items;
+        _mParsedTransactions.postValue(new ArrayList<>(items.values()));
+    }
+
     private void addServiceObservers() {
         if (mTxService != null) {
             TxServiceObserverImpl walletServiceObserver = new TxServiceObserverImpl(this);
@@ -233,48 +378,17 @@ public class TransactionsModel implements TxServiceObserverImpl.TxServiceObserve
 
     @Override
     public void onNewUnapprovedTx(TransactionInfo txInfo) {
-        update(mActivityRef);
+        applyTxChange(txInfo, true);
     }
 
     @Override
     public void onUnapprovedTxUpdated(TransactionInfo txInfo) {
-        updateTx(txInfo, mActivityRef);
+        applyTxChange(txInfo, false);
     }
 
     @Override
     public void onTransactionStatusChanged(TransactionInfo txInfo) {
-        updateTx(txInfo, mActivityRef);
-    }
-
-    private void updateTx(
-            TransactionInfo txInfo, WeakReference<BraveWalletBaseActivity> mActivityRef) {
-        List<WalletListItemModel> items = _mParsedTransactions.getValue();
-        if (items != null && txInfo.txStatus == TransactionStatus.REJECTED
-                && items.stream().anyMatch(
-                        walletItem -> walletItem.getTransactionInfo().id.equals(txInfo.id))) {
-            // Remove rejected transaction
-            items = items.stream()
-                            .filter(walletItem
-                                    -> !walletItem.getTransactionInfo().id.equals(txInfo.id))
-                            .collect(Collectors.toList());
-            _mParsedTransactions.postValue(items);
-        } else if (items != null && txInfo.txStatus != TransactionStatus.UNAPPROVED) {
-            // Update status
-            WalletListItemModel walletItemTx =
-                    items.stream()
-                            .filter(walletItem
-                                    -> walletItem.getTransactionInfo().id.equals(txInfo.id))
-                            .findFirst()
-                            .orElse(null);
-            if (walletItemTx != null) {
-                walletItemTx.getTransactionInfo().txStatus = txInfo.txStatus;
-                Utils.updateWalletCoinTransactionStatus(
-                        walletItemTx, mContext, walletItemTx.getTransactionInfo());
-                _mParsedTransactions.postValue(items);
-            }
-        } else {
-            update(mActivityRef);
-        }
+        applyTxChange(txInfo, false);
     }
 
     private static class AssetAccountsNetworkBalance {
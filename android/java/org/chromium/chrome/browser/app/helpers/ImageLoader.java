@@ -13,6 +13,7 @@ import android.graphics.Bitmap;
 import android.graphics.Rect;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.util.Base64;
 import android.util.DisplayMetrics;
@@ -39,6 +40,9 @@ import org.xmlpull.v1.XmlPullParserFactory;
 import org.xmlpull.v1.XmlSerializer;
 
 import org.chromium.base.ContextUtils;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.chrome.browser.WebContentsFactory;
 import org.chromium.chrome.browser.app.BraveActivity;
 import org.chromium.chrome.browser.crypto_wallet.util.Utils;
@@ -60,6 +64,7 @@ import java.io.StringWriter;
 import java.lang.ref.WeakReference;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -77,6 +82,21 @@ public class ImageLoader {
     private static final String SVG_TAG = "svg";
     private static final String DATA_IMAGE_SVG_UTF8_PREFIX = "data:image/svg+xml;utf8,";
 
+    // Small pool of hidden WebContents reused to render SVG images. Only used on the UI thread.
+    private static final int MAX_POOLED_WEB_CONTENTS = 2;
+    // Idle WebContents are destroyed once no SVG image was rendered for that long.
+    private static final long WEB_CONTENTS_IDLE_TIMEOUT_MS = 30 * 1000;
+    private static final ArrayDeque<WebContents> sIdleWebContents = new ArrayDeque<>();
+    private static final ArrayDeque<Callbacks.Callback1<WebContents>> sWebContentsWaiters =
+            new ArrayDeque<>();
+    // Live WebContents of the current profile, idle or in use.
+    private static int sWebContentsCount;
+    // WebContents of previous profiles still in use, destroyed when released.
+    private static int sStaleWebContentsCount;
+    private static Profile sWebContentsProfile;
+    private static long sWebContentsLastUsedMs;
+    private static boolean sIdleWebContentsTrimPosted;
+
     private static FaviconHelper sFaviconHelper;
     private static FaviconHelper.DefaultFaviconHelper sFaviconThemeHelper;
 
@@ -91,36 +111,76 @@ public class ImageLoader {
         Resources resources = ContextUtils.getApplicationContext().getResources();
         Profile profile = Utils.getProfile(false);
         if (isSvg(url)) {
-            final String validUrl;
-            if (URLUtil.isDataUrl(url)) {
-                if (isBase64Encoded(url)) {
-                    String decodedUrl = decodeBase64SvgUrl(url);
-                    validUrl = sanitizeSvg(decodedUrl);
-                } else if (isUtf8(url)) {
-                    validUrl = sanitizeSvg(url);
-                } else {
-                    // Unsupported URL type.
-                    if (callback != null) callback.onLoadFailed();
-                    return;
-                }
-                if (TextUtils.isEmpty(validUrl)) {
-                    // This may happen for invalid, or corrupted URLs.
-                    if (callback != null) callback.onLoadFailed();
-                    return;
-                }
+            // Cached by the original URL, so a hit skips sanitizing and rendering the SVG.
+            SvgImageCache.getBitmap(url,
+                    svgCallback -> rasterizeSvg(url, profile, svgCallback), bitmap -> {
+                        ImageFetcherFacade imageFetcherFacade = null;
+                        if (bitmap != null) {
+                            imageFetcherFacade = new ImageFetcherFacade(
+                                    new BitmapDrawable(resources, bitmap));
+                        }
+                        loadImage(imageFetcherFacade, requestManager, isCircular, roundedCorners,
+                                imageView, customTarget, callback);
+                    });
+        } else {
+            ImageFetcher imageFetcher = ImageFetcherFactory.createImageFetcher(
+                    ImageFetcherConfig.IN_MEMORY_WITH_DISK_CACHE, profile.getProfileKey());
+            if (isGif(url)) {
+                imageFetcher.fetchGif(
+                        Params.create(new GURL(url), UNUSED_CLIENT_NAME), gifImage -> {
+                            ImageFetcherFacade imageFetcherFacade =
+                                    new ImageFetcherFacade(gifImage.getData());
+                            loadImage(imageFetcherFacade, requestManager, isCircular,
+                                    roundedCorners, imageView, customTarget, callback);
+                        });
             } else {
-                validUrl = url;
+                imageFetcher.fetchImage(
+                        Params.create(new GURL(url), UNUSED_CLIENT_NAME), bitmap -> {
+                            BitmapDrawable bitmapDrawable = new BitmapDrawable(resources, bitmap);
+                            ImageFetcherFacade imageFetcherFacade =
+                                    new ImageFetcherFacade(bitmapDrawable);
+                            loadImage(imageFetcherFacade, requestManager, isCircular,
+                                    roundedCorners, imageView, customTarget, callback);
+                        });
             }
+        }
+    }
 
-            WebContentsFactory webContentsFactory = new WebContentsFactory();
-            WebContents webContents =
-                    webContentsFactory.createWebContentsWithWarmRenderer(profile, true);
+    private static void rasterizeSvg(
+            String url, Profile profile, Callbacks.Callback1<Bitmap> callback) {
+        final String validUrl;
+        if (URLUtil.isDataUrl(url)) {
+            if (isBase64Encoded(url)) {
+                String decodedUrl = decodeBase64SvgUrl(url);
+                validUrl = sanitizeSvg(decodedUrl);
+            } else if (isUtf8(url)) {
+                validUrl = sanitizeSvg(url);
+            } else {
+                // Unsupported URL type.
+                callback.call(null);
+                return;
+            }
+            if (TextUtils.isEmpty(validUrl)) {
+                // This may happen for invalid, or corrupted URLs.
+                callback.call(null);
+                return;
+            }
+        } else {
+            validUrl = url;
+        }
+
+        acquireWebContents(profile, webContents -> {
+            if (webContents == null) {
+                // The pool was reset for another profile while waiting.
+                callback.call(null);
+                return;
+            }
             webContents.downloadImage(new GURL(validUrl), // Url
                     false, // isFavIcon
                     WalletConstants.MAX_BITMAP_SIZE_FOR_DOWNLOAD, // maxBitmapSize
                     false, // bypassCache
                     (id, httpStatusCode, imageUrl, bitmaps, originalImageSizes) -> { // callback
-                        ImageFetcherFacade imageFetcherFacade;
+                        releaseWebContents(profile, webContents);
                         Iterator<Bitmap> iterBitmap = bitmaps.iterator();
                         Iterator<Rect> iterSize = originalImageSizes.iterator();
                         Bitmap bestBitmap = null;
@@ -135,37 +195,92 @@ public class ImageLoader {
                             }
                         }
                         if (bestSize.width() == 0 || bestSize.height() == 0) {
-                            imageFetcherFacade = null;
+                            callback.call(null);
                         } else {
-                            BitmapDrawable bitmapDrawable =
-                                    new BitmapDrawable(resources, bestBitmap);
-                            imageFetcherFacade = new ImageFetcherFacade(bitmapDrawable);
+                            callback.call(bestBitmap);
                         }
-                        loadImage(imageFetcherFacade, requestManager, isCircular, roundedCorners,
-                                imageView, customTarget, callback);
                     });
+        });
+    }
+
+    /**
+     * Hands out one of the pooled {@link WebContents} used to render SVG images, creating it if
+     * the pool is not full yet, or queues the request until one is released. The callback gets
+     * null if the pool is reset for another profile meanwhile. UI thread only.
+     */
+    private static void acquireWebContents(
+            Profile profile, Callbacks.Callback1<WebContents> callback) {
+        ThreadUtils.assertOnUiThread();
+        if (sWebContentsProfile != profile) {
+            // Pooled WebContents belong to another profile, drop them. The ones still in use keep
+            // counting against the pool until they are released.
+            destroyIdleWebContents();
+            sStaleWebContentsCount += sWebContentsCount;
+            sWebContentsCount = 0;
+            sWebContentsProfile = profile;
+            Callbacks.Callback1<WebContents> waiter;
+            while ((waiter = sWebContentsWaiters.poll()) != null) {
+                waiter.call(null);
+            }
+        }
+        WebContents webContents = sIdleWebContents.poll();
+        if (webContents == null
+                && sWebContentsCount + sStaleWebContentsCount < MAX_POOLED_WEB_CONTENTS) {
+            webContents = new WebContentsFactory().createWebContentsWithWarmRenderer(profile, true);
+            sWebContentsCount++;
+        }
+        if (webContents != null) {
+            callback.call(webContents);
         } else {
-            ImageFetcher imageFetcher = ImageFetcherFactory.createImageFetcher(
-                    ImageFetcherConfig.NETWORK_ONLY, profile.getProfileKey());
-            if (isGif(url)) {
-                imageFetcher.fetchGif(
-                        Params.create(new GURL(url), UNUSED_CLIENT_NAME), gifImage -> {
-                            ImageFetcherFacade imageFetcherFacade =
-                                    new ImageFetcherFacade(gifImage.getData());
-                            loadImage(imageFetcherFacade, requestManager, isCircular,
-                                    roundedCorners, imageView, customTarget, callback);
-                        });
+            sWebContentsWaiters.add(callback);
+        }
+    }
+
+    private static void releaseWebContents(Profile profile, WebContents webContents) {
+        sWebContentsLastUsedMs = SystemClock.elapsedRealtime();
+        if (sWebContentsProfile != profile) {
+            // The pool was reset for another profile while this one was in use.
+            if (!webContents.isDestroyed()) webContents.destroy();
+            sStaleWebContentsCount--;
+            webContents = null;
+        } else if (webContents.isDestroyed()) {
+            sWebContentsCount--;
+            webContents = null;
+        }
+        Callbacks.Callback1<WebContents> waiter = sWebContentsWaiters.poll();
+        if (waiter != null) {
+            if (webContents != null) {
+                waiter.call(webContents);
             } else {
-                imageFetcher.fetchImage(
-                        Params.create(new GURL(url), UNUSED_CLIENT_NAME), bitmap -> {
-                            BitmapDrawable bitmapDrawable = new BitmapDrawable(resources, bitmap);
-                            ImageFetcherFacade imageFetcherFacade =
-                                    new ImageFetcherFacade(bitmapDrawable);
-                            loadImage(imageFetcherFacade, requestManager, isCircular,
-                                    roundedCorners, imageView, customTarget, callback);
-                        });
+                acquireWebContents(sWebContentsProfile, waiter);
+            }
+        } else if (webContents != null) {
+            sIdleWebContents.add(webContents);
+            postIdleWebContentsTrim(WEB_CONTENTS_IDLE_TIMEOUT_MS);
+        }
+    }
+
+    private static void postIdleWebContentsTrim(long delayMs) {
+        if (sIdleWebContentsTrimPosted) return;
+        sIdleWebContentsTrimPosted = true;
+        PostTask.postDelayedTask(TaskTraits.UI_DEFAULT, () -> {
+            sIdleWebContentsTrimPosted = false;
+            if (sIdleWebContents.isEmpty()) return;
+            long idleMs = SystemClock.elapsedRealtime() - sWebContentsLastUsedMs;
+            if (idleMs < WEB_CONTENTS_IDLE_TIMEOUT_MS) {
+                postIdleWebContentsTrim(WEB_CONTENTS_IDLE_TIMEOUT_MS - idleMs);
+                return;
             }
+            destroyIdleWebContents();
+        }, delayMs);
+    }
+
+    private static void destroyIdleWebContents() {
+        for (WebContents webContents : sIdleWebContents) {
+            if (!webContents.isDestroyed()) webContents.destroy();
+            sWebContentsCount--;
         }
+        sIdleWebContents.clear();
     }
 
     /**
@@ -0,0 +1,190 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.app.helpers;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.mojo.bindings.Callbacks;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of rasterized SVG images used by {@link ImageLoader}. Bitmaps are content-addressed by
+ * the hash of the SVG URL, kept in an in-memory LRU and persisted as PNG files, so an icon is only
+ * sanitized and rendered the first time it is seen. Concurrent requests for the same URL share a
+ * single rasterization.
+ */
+class SvgImageCache {
+    private static final String TAG = "SvgImageCache";
+
+    private static final String CACHE_DIR = "svg_images";
+    private static final int MAX_MEMORY_BYTES = 8 * 1024 * 1024;
+    private static final int MAX_DISK_BYTES = 20 * 1024 * 1024;
+
+    /** Renders the SVG on a cache miss and reports the bitmap, or null on failure. */
+    interface Rasterizer {
+        void rasterize(Callbacks.Callback1<Bitmap> callback);
+    }
+
+    private static final LruCache<String, Bitmap> sMemoryCache =
+            new LruCache<String, Bitmap>(MAX_MEMORY_BYTES) {
+                @Override
+                protected int sizeOf(String key, Bitmap bitmap) {
+                    return bitmap.getByteCount();
+                }
+            };
+    // Callbacks waiting for an in-flight request, keyed by cache key. Only used on the UI thread.
+    private static final Map<String, List<Callbacks.Callback1<Bitmap>>> sPendingRequests =
+            new HashMap<>();
+
+    /**
+     * Looks up the bitmap for {@code svgUrl} in memory, then on disk, and runs
+     * {@code rasterizer} only when neither has it. Must be called on the UI thread; the callback
+     * is invoked on the UI thread.
+     */
+    static void getBitmap(
+            String svgUrl, Rasterizer rasterizer, Callbacks.Callback1<Bitmap> callback) {
+        ThreadUtils.assertOnUiThread();
+        String key = getKey(svgUrl);
+        if (key == null) {
+            rasterizer.rasterize(callback);
+            return;
+        }
+        Bitmap bitmap = sMemoryCache.get(key);
+        if (bitmap != null) {
+            callback.call(bitmap);
+            return;
+        }
+        List<Callbacks.Callback1<Bitmap>> pending = sPendingRequests.get(key);
+        if (pending != null) {
+            pending.add(callback);
+            return;
+        }
+        pending = new ArrayList<>();
+        pending.add(callback);
+        sPendingRequests.put(key, pending);
+
+        PostTask.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+            Bitmap diskBitmap = readFromDisk(key);
+            PostTask.postTask(TaskTraits.UI_USER_VISIBLE, () -> {
+                if (diskBitmap != null) {
+                    deliver(key, diskBitmap);
+                    return;
+                }
+                rasterizer.rasterize(rasterized -> {
+                    deliver(key, rasterized);
+                    if (rasterized != null) {
+                        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK,
+                                () -> writeToDisk(key, rasterized));
+                    }
+                });
+            });
+        });
+    }
+
+    private static void deliver(String key, Bitmap bitmap) {
+        if (bitmap != null) {
+            sMemoryCache.put(key, bitmap);
+        }
+        List<Callbacks.Callback1<Bitmap>> callbacks = sPendingRequests.remove(key);
+        if (callbacks == null) return;
+        for (Callbacks.Callback1<Bitmap> callback : callbacks) {
+            callback.call(bitmap);
+        }
+    }
+
+    private static String getKey(String svgUrl) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(svgUrl.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static File getCacheDir() {
+        File dir = new File(ContextUtils.getApplicationContext().getCacheDir(), CACHE_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            return null;
+        }
+        return dir;
+    }
+
+    private static Bitmap readFromDisk(String key) {
+        File dir = getCacheDir();
+        if (dir == null) return null;
+        File file = new File(dir, key + ".png");
+        if (!file.exists()) return null;
+        try {
+            Bitmap bitmap = BitmapFactory.decodeFile(file.getPath());
+            if (bitmap != null) {
+                file.setLastModified(System.currentTimeMillis());
+            }
+            return bitmap;
+        } catch (OutOfMemoryError e) {
+            Log.e(TAG, "readFromDisk: OutOfMemoryError: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeToDisk(String key, Bitmap bitmap) {
+        File dir = getCacheDir();
+        if (dir == null) return;
+        File file = new File(dir, key + ".png");
+        File tmpFile = new File(dir, key + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(tmpFile)) {
+            bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
+        } catch (IOException e) {
+            Log.e(TAG, "writeToDisk: IOException: " + e.getMessage());
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+            return;
+        }
+        trimDiskCache(dir);
+    }
+
+    private static void trimDiskCache(File dir) {
+        File[] files = dir.listFiles((file) -> file.getName().endsWith(".png"));
+        if (files == null) return;
+        long totalBytes = 0;
+        for (File file : files) {
+            totalBytes += file.length();
+        }
+        if (totalBytes <= MAX_DISK_BYTES) return;
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (totalBytes <= MAX_DISK_BYTES) break;
+            totalBytes -= file.length();
+            file.delete();
+        }
+    }
+}
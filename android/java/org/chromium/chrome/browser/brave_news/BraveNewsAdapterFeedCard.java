@@ -47,6 +47,12 @@ public class BraveNewsAdapterFeedCard
         this.mGlide = glide;
     }
 
+    @Override
+    public int getItemViewType(int position) {
+        // One view type per card type, so recycled holders only rebind the data.
+        return mNewsItems.get(position).getCardType();
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
@@ -61,11 +67,17 @@ public class BraveNewsAdapterFeedCard
         LinearLayout.LayoutParams params1;
         if (mNewsItems != null) {
             FeedItemsCard newsItem = mNewsItems.get(position);
-            holder.linearLayout.removeAllViews();
             try {
                 if (mBraveNewsController != null) {
-                    new CardBuilderFeedCard(mBraveNewsController, mGlide, holder.linearLayout,
-                            mActivity, position, newsItem, newsItem.getCardType());
+                    if (holder.cardBuilder != null
+                            && holder.cardBuilder.getType() == newsItem.getCardType()) {
+                        holder.cardBuilder.bind(newsItem, position);
+                    } else {
+                        holder.linearLayout.removeAllViews();
+                        holder.cardBuilder = new CardBuilderFeedCard(mBraveNewsController, mGlide,
+                                holder.linearLayout, mActivity, position, newsItem,
+                                newsItem.getCardType());
+                    }
                 }
 
             } catch (Exception e) {
@@ -81,6 +93,7 @@ public class BraveNewsAdapterFeedCard
 
     public static class ViewHolder extends RecyclerView.ViewHolder {
         LinearLayout linearLayout;
+        CardBuilderFeedCard cardBuilder;
 
         ViewHolder(View itemView) {
             super(itemView);
@@ -0,0 +1,110 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.Feed;
+import org.chromium.mojo.bindings.Callbacks;
+import org.chromium.mojo.bindings.DeserializationException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Keeps the last received Brave News feed on disk in its mojo serialized form, so a cold new
+ * tab page can show the feed right away while the fresh one is fetched.
+ */
+public class BraveNewsFeedSnapshot {
+    private static final String TAG = "BraveNewsSnapshot";
+
+    private static final String SNAPSHOT_FILE = "brave_news_feed_snapshot";
+    private static final long MAX_SNAPSHOT_AGE_MS = 24 * 60 * 60 * 1000L;
+
+    /** Writes the feed to disk in the background, replacing the previous snapshot. */
+    public static void save(Feed feed) {
+        if (feed == null) return;
+        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK, () -> {
+            ByteBuffer buffer;
+            try {
+                buffer = feed.serialize();
+            } catch (RuntimeException e) {
+                Log.e(TAG, "save: " + e.getMessage());
+                return;
+            }
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+
+            File file = getSnapshotFile();
+            File tmpFile = new File(file.getPath() + ".tmp");
+            try (FileOutputStream outputStream = new FileOutputStream(tmpFile)) {
+                outputStream.write(bytes);
+            } catch (IOException e) {
+                Log.e(TAG, "save: IOException: " + e.getMessage());
+                tmpFile.delete();
+                return;
+            }
+            if (!tmpFile.renameTo(file)) {
+                tmpFile.delete();
+            }
+        });
+    }
+
+    /**
+     * Reads the snapshot in the background and passes it to {@code callback} on the UI thread,
+     * or null when there is no recent snapshot.
+     */
+    public static void load(Callbacks.Callback1<Feed> callback) {
+        PostTask.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+            Feed feed = readSnapshot();
+            PostTask.postTask(TaskTraits.UI_USER_VISIBLE, () -> callback.call(feed));
+        });
+    }
+
+    /** Removes the snapshot, e.g. when the news feed is turned off. */
+    public static void clear() {
+        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK, () -> getSnapshotFile().delete());
+    }
+
+    private static Feed readSnapshot() {
+        File file = getSnapshotFile();
+        if (!file.exists()) return null;
+        if (System.currentTimeMillis() - file.lastModified() > MAX_SNAPSHOT_AGE_MS) {
+            file.delete();
+            return null;
+        }
+        byte[] bytes = new byte[(int) file.length()];
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = inputStream.read(bytes, offset, bytes.length - offset);
+                if (read < 0) break;
+                offset += read;
+            }
+            if (offset != bytes.length) return null;
+        } catch (IOException e) {
+            Log.e(TAG, "load: IOException: " + e.getMessage());
+            return null;
+        }
+        try {
+            return Feed.deserialize(ByteBuffer.wrap(bytes));
+        } catch (DeserializationException e) {
+            // Written by an older version with a different layout, drop it.
+            Log.e(TAG, "load: " + e.getMessage());
+            file.delete();
+            return null;
+        }
+    }
+
+    private static File getSnapshotFile() {
+        return new File(ContextUtils.getApplicationContext().getCacheDir(), SNAPSHOT_FILE);
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.chromium.chrome.browser.brave_news;
 
+import android.text.TextUtils;
+
 import org.chromium.base.ContextUtils;
 import org.chromium.base.Log;
 import org.chromium.base.task.PostTask;
@@ -17,6 +19,7 @@ import org.chromium.brave_news.mojom.Deal;
 import org.chromium.brave_news.mojom.DisplayAd;
 import org.chromium.brave_news.mojom.FeedItem;
 import org.chromium.brave_news.mojom.FeedItemMetadata;
+import org.chromium.brave_news.mojom.Image;
 import org.chromium.brave_news.mojom.LocaleInfo;
 import org.chromium.brave_news.mojom.PromotedArticle;
 import org.chromium.brave_news.mojom.Publisher;
@@ -28,15 +31,18 @@ import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
 import org.chromium.chrome.browser.preferences.BravePrefServiceBridge;
 import org.chromium.chrome.browser.settings.BraveNewsPreferencesDataListener;
 import org.chromium.chrome.browser.settings.BraveNewsPreferencesV2;
+import org.chromium.url.mojom.Url;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 public class BraveNewsUtils {
     public static final int BRAVE_NEWS_VIEWD_CARD_TIME = 1000; // milliseconds
@@ -48,6 +54,11 @@ public class BraveNewsUtils {
     private static List<Channel> mFollowingChannelList;
     private static List<Publisher> mFollowingPublisherList;
     private static List<String> mSuggestionsList;
+    private static Set<String> sSuggestionsIds = new HashSet<>();
+    private static SearchIndex sChannelSearchIndex;
+    private static SearchIndex sPublisherSearchIndex;
+    // Lower case feed and site urls of all publishers.
+    private static Set<String> sPublisherUrls = new HashSet<>();
     private static HashMap<String, Integer> mChannelIcons = new HashMap<>();
 
     public static String getPromotionIdItem(FeedItemsCard items) {
@@ -128,6 +139,120 @@ public class BraveNewsUtils {
         }
     }
 
+    /**
+     * @return an id derived from the card type and the urls of its items, which stays the same
+     *         for the same card across feed updates.
+     */
+    public static String getCardContentId(FeedItemsCard items) {
+        StringBuilder contentId = new StringBuilder(String.valueOf(items.getCardType()));
+        if (items.getFeedItems() != null) {
+            for (FeedItemCard itemCard : items.getFeedItems()) {
+                FeedItemMetadata itemMetaData = getItemMetadata(itemCard.getFeedItem());
+                contentId.append('|');
+                if (itemMetaData != null && itemMetaData.url != null) {
+                    contentId.append(itemMetaData.url.url);
+                }
+            }
+        }
+        return contentId.toString();
+    }
+
+    /**
+     * @return whether both cards would display the same text and images, and report the same
+     *         promoted article and deal data.
+     */
+    public static boolean isSameCardContent(FeedItemsCard first, FeedItemsCard second) {
+        if (first.getCardType() != second.getCardType()) return false;
+        List<FeedItemCard> firstItems = first.getFeedItems();
+        List<FeedItemCard> secondItems = second.getFeedItems();
+        if (firstItems == null || secondItems == null) return firstItems == secondItems;
+        if (firstItems.size() != secondItems.size()) return false;
+        for (int i = 0; i < firstItems.size(); i++) {
+            FeedItem firstItem = firstItems.get(i).getFeedItem();
+            FeedItem secondItem = secondItems.get(i).getFeedItem();
+            if (firstItem.which() != secondItem.which()
+                    || !isSameItemPayload(firstItem, secondItem)) {
+                return false;
+            }
+            FeedItemMetadata firstData = getItemMetadata(firstItem);
+            FeedItemMetadata secondData = getItemMetadata(secondItem);
+            if (firstData == null || secondData == null) {
+                if (firstData != secondData) return false;
+                continue;
+            }
+            if (!TextUtils.equals(firstData.title, secondData.title)
+                    || !TextUtils.equals(firstData.description, secondData.description)
+                    || !TextUtils.equals(firstData.publisherName, secondData.publisherName)
+                    || !TextUtils.equals(firstData.categoryName, secondData.categoryName)
+                    || !TextUtils.equals(firstData.relativeTimeDescription,
+                            secondData.relativeTimeDescription)
+                    || !TextUtils.equals(getImageUrl(firstData), getImageUrl(secondData))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Compares the fields specific to the item type, besides the metadata.
+    private static boolean isSameItemPayload(FeedItem first, FeedItem second) {
+        switch (first.which()) {
+            case FeedItem.Tag.PromotedArticle:
+                return TextUtils.equals(first.getPromotedArticle().creativeInstanceId,
+                        second.getPromotedArticle().creativeInstanceId);
+            case FeedItem.Tag.Deal:
+                return TextUtils.equals(
+                        first.getDeal().offersCategory, second.getDeal().offersCategory);
+            default:
+                return true;
+        }
+    }
+
+    private static FeedItemMetadata getItemMetadata(FeedItem item) {
+        if (item == null) return null;
+        switch (item.which()) {
+            case FeedItem.Tag.Article:
+                return item.getArticle().data;
+            case FeedItem.Tag.PromotedArticle:
+                return item.getPromotedArticle().data;
+            case FeedItem.Tag.Deal:
+                return item.getDeal().data;
+            default:
+                return null;
+        }
+    }
+
+    /** @return the urls of the images shown by the card, used to prefetch them. */
+    public static List<Url> getCardImageUrls(FeedItemsCard items) {
+        List<Url> imageUrls = new ArrayList<>();
+        if (items.getFeedItems() == null) return imageUrls;
+        for (FeedItemCard itemCard : items.getFeedItems()) {
+            FeedItemMetadata itemMetaData = getItemMetadata(itemCard.getFeedItem());
+            if (itemMetaData == null) continue;
+            Url imageUrl = getImage(itemMetaData);
+            if (imageUrl != null) {
+                imageUrls.add(imageUrl);
+            }
+        }
+        return imageUrls;
+    }
+
+    private static Url getImage(FeedItemMetadata itemMetaData) {
+        if (itemMetaData.image == null) return null;
+        switch (itemMetaData.image.which()) {
+            case Image.Tag.PaddedImageUrl:
+                return itemMetaData.image.getPaddedImageUrl();
+            case Image.Tag.ImageUrl:
+                return itemMetaData.image.getImageUrl();
+            default:
+                return null;
+        }
+    }
+
+    private static String getImageUrl(FeedItemMetadata itemMetaData) {
+        Url imageUrl = getImage(itemMetaData);
+        return imageUrl != null ? imageUrl.url : null;
+    }
+
     public static boolean shouldDisplayNewsFeed() {
         return BravePrefServiceBridge.getInstance().getShowNews()
                 && BravePrefServiceBridge.getInstance().getNewsOptIn();
@@ -183,8 +308,55 @@ public class BraveNewsUtils {
         return mLocale;
     }
 
+    /**
+     * Lower case search text of a list, built once per list refresh. A query that extends the
+     * previous one, as when typing, only rechecks the previous matches.
+     */
+    private static class SearchIndex {
+        private final String[] mSearchTexts;
+        private String mLastQuery;
+        private int[] mLastMatches;
+
+        SearchIndex(String[] searchTexts) {
+            mSearchTexts = searchTexts;
+        }
+
+        /** @return the positions of the items whose text contains the lower case query. */
+        int[] search(String query) {
+            int[] matches;
+            int count = 0;
+            if (mLastQuery != null && query.startsWith(mLastQuery)) {
+                matches = new int[mLastMatches.length];
+                for (int position : mLastMatches) {
+                    if (mSearchTexts[position].contains(query)) {
+                        matches[count++] = position;
+                    }
+                }
+            } else {
+                matches = new int[mSearchTexts.length];
+                for (int position = 0; position < mSearchTexts.length; position++) {
+                    if (mSearchTexts[position].contains(query)) {
+                        matches[count++] = position;
+                    }
+                }
+            }
+            mLastQuery = query;
+            mLastMatches = Arrays.copyOf(matches, count);
+            return mLastMatches;
+        }
+    }
+
+    private static String toSearchText(String text) {
+        return text != null ? text.toLowerCase(Locale.ROOT) : "";
+    }
+
     private static void setChannelList(List<Channel> channelList) {
         mChannelList = channelList;
+        String[] searchTexts = new String[channelList.size()];
+        for (int i = 0; i < searchTexts.length; i++) {
+            searchTexts[i] = toSearchText(channelList.get(i).channelName);
+        }
+        sChannelSearchIndex = new SearchIndex(searchTexts);
         setFollowingChannelList();
     }
 
@@ -203,13 +375,14 @@ public class BraveNewsUtils {
 
     private static void setSuggestionsIds(List<String> suggestionsList) {
         mSuggestionsList = suggestionsList;
+        sSuggestionsIds = new HashSet<>(suggestionsList);
     }
 
     public static List<Publisher> getSuggestionsPublisherList() {
         List<Publisher> suggestionsPublisherList = new ArrayList<>();
-        if (mSuggestionsList != null && mSuggestionsList.size() > 0) {
+        if (mSuggestionsList != null && mSuggestionsList.size() > 0 && mPublisherList != null) {
             for (Publisher publisher : mPublisherList) {
-                if (mSuggestionsList.contains(publisher.publisherId)) {
+                if (sSuggestionsIds.contains(publisher.publisherId)) {
                     suggestionsPublisherList.add(publisher);
                 }
             }
@@ -245,10 +418,11 @@ public class BraveNewsUtils {
     public static void setFollowingChannelList() {
         List<Channel> channelList = new ArrayList<>();
         for (Channel channel : mChannelList) {
-            List<String> subscribedLocalesList =
-                    new ArrayList<>(Arrays.asList(channel.subscribedLocales));
-            if (subscribedLocalesList.contains(mLocale)) {
-                channelList.add(channel);
+            for (String subscribedLocale : channel.subscribedLocales) {
+                if (subscribedLocale.equals(mLocale)) {
+                    channelList.add(channel);
+                    break;
+                }
             }
         }
         mFollowingChannelList = channelList;
@@ -260,38 +434,24 @@ public class BraveNewsUtils {
 
     public static List<Channel> searchChannel(String search) {
         List<Channel> channelList = new ArrayList<>();
-        for (Channel channel : mChannelList) {
-            if (channel.channelName.toLowerCase(Locale.ROOT).contains(search)) {
-                channelList.add(channel);
-            }
+        if (sChannelSearchIndex == null) return channelList;
+        for (int position : sChannelSearchIndex.search(search.toLowerCase(Locale.ROOT))) {
+            channelList.add(mChannelList.get(position));
         }
         return channelList;
     }
 
     public static List<Publisher> searchPublisher(String search) {
         List<Publisher> publisherList = new ArrayList<>();
-        for (Publisher publisher : mGlobalPublisherList) {
-            if (publisher.publisherName.toLowerCase(Locale.ROOT).contains(search)
-                    || publisher.categoryName.toLowerCase(Locale.ROOT).contains(search)
-                    || publisher.feedSource.url.toLowerCase(Locale.ROOT).contains(search)
-                    || publisher.siteUrl.url.toLowerCase(Locale.ROOT).contains(search)) {
-                publisherList.add(publisher);
-            }
+        if (sPublisherSearchIndex == null) return publisherList;
+        for (int position : sPublisherSearchIndex.search(search.toLowerCase(Locale.ROOT))) {
+            publisherList.add(mGlobalPublisherList.get(position));
         }
-
         return publisherList;
     }
 
     public static boolean searchPublisherForRss(String feedUrl) {
-        boolean isFound = false;
-        for (Publisher publisher : mGlobalPublisherList) {
-            if (publisher.feedSource.url.equalsIgnoreCase(feedUrl)
-                    || publisher.siteUrl.url.equalsIgnoreCase(feedUrl)) {
-                isFound = true;
-                break;
-            }
-        }
-        return isFound;
+        return feedUrl != null && sPublisherUrls.contains(feedUrl.toLowerCase(Locale.ROOT));
     }
 
     public static void getBraveNewsSettingsData(BraveNewsController braveNewsController,
@@ -362,6 +522,7 @@ public class BraveNewsUtils {
         Collections.sort(globalPublisherList, compareByName);
 
         mGlobalPublisherList = globalPublisherList;
+        setPublisherSearchIndex(globalPublisherList);
 
         Collections.sort(publisherList, compareByName);
 
@@ -374,6 +535,23 @@ public class BraveNewsUtils {
         setPopularSources(publisherList);
     }
 
+    private static void setPublisherSearchIndex(List<Publisher> publisherList) {
+        String[] searchTexts = new String[publisherList.size()];
+        Set<String> publisherUrls = new HashSet<>();
+        for (int i = 0; i < searchTexts.length; i++) {
+            Publisher publisher = publisherList.get(i);
+            String feedUrl = toSearchText(publisher.feedSource.url);
+            String siteUrl = toSearchText(publisher.siteUrl.url);
+            // Fields are separated so a query can't match across two of them.
+            searchTexts[i] = toSearchText(publisher.publisherName) + '\n'
+                    + toSearchText(publisher.categoryName) + '\n' + feedUrl + '\n' + siteUrl;
+            publisherUrls.add(feedUrl);
+            publisherUrls.add(siteUrl);
+        }
+        sPublisherSearchIndex = new SearchIndex(searchTexts);
+        sPublisherUrls = publisherUrls;
+    }
+
     public static void getSuggestionsSources(BraveNewsController braveNewsController,
             BraveNewsPreferencesDataListener braveNewsPreferencesDataListener) {
         braveNewsController.getSuggestedPublisherIds((publisherIds) -> {
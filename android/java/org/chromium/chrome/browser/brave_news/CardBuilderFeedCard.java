@@ -17,8 +17,6 @@ import android.graphics.drawable.LayerDrawable;
 import android.graphics.drawable.ShapeDrawable;
 import android.graphics.drawable.shapes.RoundRectShape;
 import android.os.Bundle;
-import android.os.Handler;
-import android.os.Looper;
 import android.text.TextUtils;
 import android.view.Gravity;
 import android.view.LayoutInflater;
@@ -54,6 +52,8 @@ import com.bumptech.glide.request.transition.Transition;
 import org.chromium.base.BravePreferenceKeys;
 import org.chromium.base.ContextUtils;
 import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.brave_news.mojom.Article;
 import org.chromium.brave_news.mojom.BraveNewsController;
 import org.chromium.brave_news.mojom.CardType;
@@ -78,9 +78,8 @@ import org.chromium.chrome.browser.util.ConfigurationUtils;
 import org.chromium.chrome.browser.util.TabUtils;
 import org.chromium.url.mojom.Url;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 public class CardBuilderFeedCard {
     private final int CARD_LAYOUT = 7;
@@ -116,6 +115,50 @@ public class CardBuilderFeedCard {
     private final int MARGIN_VERTICAL = 10;
     private final String BRAVE_OFFERS_URL = "offers.brave.com";
 
+    // Views filled from the feed data, recorded while the card layout is built so that a
+    // recycled card of the same type only rebinds the data in bind().
+    private final List<TextSlot> mTextSlots = new ArrayList<>();
+    private final List<ImageSlot> mImageSlots = new ArrayList<>();
+    private final List<ItemSlot> mItemSlots = new ArrayList<>();
+    private LinearLayout mPairedLayoutLeft;
+    private LinearLayout mPairedLayoutRight;
+
+    private static class TextSlot {
+        final TextView mTextView;
+        final int mTextType;
+        final int mIndex;
+
+        TextSlot(TextView textView, int textType, int index) {
+            mTextView = textView;
+            mTextType = textType;
+            mIndex = index;
+        }
+    }
+
+    private static class ImageSlot {
+        final ImageView mImageView;
+        final String mImageType;
+        final int mIndex;
+
+        ImageSlot(ImageView imageView, String imageType, int index) {
+            mImageView = imageView;
+            mImageType = imageType;
+            mIndex = index;
+        }
+    }
+
+    private static class ItemSlot {
+        final View mView;
+        final TextView mTitle;
+        final int mIndex;
+
+        ItemSlot(View view, TextView title, int index) {
+            mView = view;
+            mTitle = title;
+            mIndex = index;
+        }
+    }
+
     public CardBuilderFeedCard(BraveNewsController braveNewsController, RequestManager glide,
             LinearLayout layout, Activity activity, int position, FeedItemsCard newsItem,
             int type) {
@@ -148,6 +191,61 @@ public class CardBuilderFeedCard {
 
     public void initItems() {}
 
+    public int getType() {
+        return mType;
+    }
+
+    /**
+     * Rebinds a card that was built for the same card type to another feed item, reusing the
+     * existing views. Display ads are filled asynchronously and are rebuilt instead.
+     */
+    public void bind(FeedItemsCard newsItem, int position) {
+        if (newsItem == mNewsItem && position == mPosition) {
+            return;
+        }
+        mNewsItem = newsItem;
+        mPosition = position;
+        mIsPromo = false;
+        mCreativeInstanceId = "";
+        mOffersCategory = "";
+
+        if (mType == CardType.DISPLAY_AD) {
+            mLinearLayout.removeAllViews();
+            mTextSlots.clear();
+            mImageSlots.clear();
+            mItemSlots.clear();
+            try {
+                createCard(mType, mPosition);
+            } catch (Exception e) {
+                Log.e(TAG, "Exception createCard:" + e.getMessage());
+            }
+            return;
+        }
+
+        try {
+            // Same order as when the card was built, the item listeners override the text ones.
+            for (TextSlot slot : mTextSlots) {
+                applyTextFromFeed(slot.mTextView, slot.mTextType, slot.mIndex);
+            }
+            for (ImageSlot slot : mImageSlots) {
+                mGlide.clear(slot.mImageView);
+                slot.mImageView.setImageDrawable(null);
+                loadImage(slot.mImageView, slot.mImageType, slot.mIndex);
+            }
+            for (ItemSlot slot : mItemSlots) {
+                applyItemListeners(slot.mView, slot.mTitle, slot.mIndex);
+            }
+            if (mType == CardType.HEADLINE_PAIRED && mPairedLayoutLeft != null
+                    && mPairedLayoutRight != null) {
+                mPairedLayoutLeft.setLayoutParams(makePairedCellParams(true));
+                mPairedLayoutRight.setLayoutParams(makePairedCellParams(false));
+                equalizePairedHeights(mPairedLayoutLeft, mPairedLayoutRight);
+            }
+        } catch (Exception e) {
+            Log.e(TAG, "Exception bind:" + e.getMessage());
+        }
+    }
+
     public void removeCard(LinearLayout layout) {
         layout.removeAllViews();
         layout.setVisibility(View.GONE);
@@ -397,31 +495,12 @@ public class CardBuilderFeedCard {
                     break;
                 case CardType.DISPLAY_AD:
                     try {
-                        ExecutorService executor = Executors.newSingleThreadExecutor();
-                        Handler handler = new Handler(Looper.getMainLooper());
-                        executor.execute(() -> {
-                            try {
-                                Tab tab = BraveActivity.getBraveActivity().getActivityTab();
-                                if (tab != null) {
-                                    int tabId = tab.getId();
-                                    DatabaseHelper dbHelper = DatabaseHelper.getInstance();
-                                    DisplayAdsTable posTabAd =
-                                            dbHelper.getDisplayAd(position, tabId);
-                                    handler.post(() -> {
-                                        if (posTabAd != null) {
-                                            createAdFromTable(posTabAd);
-                                        } else {
-                                            mBraveNewsController.getDisplayAd(adData -> {
-                                                BraveNewsUtils.putToDisplayAdsMap(position, adData);
-                                                createdDisplayAdCard(adData);
-                                            });
-                                        }
-                                    });
-                                }
-                            } catch (BraveActivity.BraveActivityNotFoundException e) {
-                                Log.e(TAG, "createCard DISPLAY_AD " + e);
-                            }
-                        });
+                        Tab tab = BraveActivity.getBraveActivity().getActivityTab();
+                        if (tab != null) {
+                            loadDisplayAd(position, tab.getId());
+                        }
+                    } catch (BraveActivity.BraveActivityNotFoundException e) {
+                        Log.e(TAG, "createCard DISPLAY_AD " + e);
                     } catch (Exception e) {
                         Log.e(TAG, "displayad Exception" + e.getMessage());
                     }
@@ -654,44 +733,21 @@ public class CardBuilderFeedCard {
                             mHorizontalMargin, 0, mHorizontalMargin, 5 * MARGIN_VERTICAL);
                     mLinearLayout.setLayoutParams(linearLayoutParams);
 
-                    LinearLayout.LayoutParams cellParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
-                    cellParams.setMargins(0, 0, 20, 0);
-
-                    cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
                     LinearLayout layoutLeft = new LinearLayout(mActivity);
                     LinearLayout layoutRight = new LinearLayout(mActivity);
                     mLinearLayout.addView(layoutLeft);
-                    layoutLeft.setLayoutParams(cellParams);
+                    layoutLeft.setLayoutParams(makePairedCellParams(true));
                     layoutLeft.setOrientation(LinearLayout.VERTICAL);
                     addElementsToSingleLayout(layoutLeft, 0, type);
 
                     mLinearLayout.addView(layoutRight);
-
-                    cellParams =
-                            new LinearLayout.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT,
-                                    LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
-                    cellParams.setMargins(20, 0, 0, 0);
-
-                    cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
-                    layoutRight.setLayoutParams(cellParams);
+                    layoutRight.setLayoutParams(makePairedCellParams(false));
                     layoutRight.setOrientation(LinearLayout.VERTICAL);
-
                     addElementsToSingleLayout(layoutRight, 1, type);
-                    layoutLeft.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
-                    layoutRight.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
-
-                    int maxHeight = Math.max(
-                            layoutLeft.getMeasuredHeight(), layoutRight.getMeasuredHeight());
-
-                    if (maxHeight > layoutLeft.getMeasuredHeight()) {
-                        cellParams.height = maxHeight;
-                        layoutLeft.setLayoutParams(cellParams);
-                    } else if (maxHeight > layoutRight.getMeasuredHeight()) {
-                        cellParams.height = maxHeight;
-                        layoutRight.setLayoutParams(cellParams);
-                    }
+
+                    mPairedLayoutLeft = layoutLeft;
+                    mPairedLayoutRight = layoutRight;
+                    equalizePairedHeights(layoutLeft, layoutRight);
                     break;
             }
         } catch (Exception e) {
@@ -701,6 +757,65 @@ public class CardBuilderFeedCard {
         return mLinearLayout;
     }
 
+    private LinearLayout.LayoutParams makePairedCellParams(boolean isLeft) {
+        LinearLayout.LayoutParams cellParams = new LinearLayout.LayoutParams(
+                LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.WRAP_CONTENT, 1f);
+        if (isLeft) {
+            cellParams.setMargins(0, 0, 20, 0);
+        } else {
+            cellParams.setMargins(20, 0, 0, 0);
+        }
+        cellParams.height = LinearLayout.LayoutParams.MATCH_PARENT;
+        return cellParams;
+    }
+
+    private void equalizePairedHeights(LinearLayout layoutLeft, LinearLayout layoutRight) {
+        LinearLayout.LayoutParams cellParams =
+                (LinearLayout.LayoutParams) layoutRight.getLayoutParams();
+        layoutLeft.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
+        layoutRight.measure(View.MeasureSpec.UNSPECIFIED, View.MeasureSpec.UNSPECIFIED);
+
+        int maxHeight = Math.max(layoutLeft.getMeasuredHeight(), layoutRight.getMeasuredHeight());
+
+        if (maxHeight > layoutLeft.getMeasuredHeight()) {
+            cellParams.height = maxHeight;
+            layoutLeft.setLayoutParams(cellParams);
+        } else if (maxHeight > layoutRight.getMeasuredHeight()) {
+            cellParams.height = maxHeight;
+            layoutRight.setLayoutParams(cellParams);
+        }
+    }
+
+    private void loadDisplayAd(int position, int tabId) {
+        DatabaseHelper dbHelper = DatabaseHelper.getInstance();
+        if (dbHelper.isDisplayAdCached(position, tabId)) {
+            onDisplayAdLoaded(dbHelper.getDisplayAd(position, tabId), position);
+            return;
+        }
+        final FeedItemsCard displayAdItem = mNewsItem;
+        PostTask.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+            DisplayAdsTable posTabAd = dbHelper.getDisplayAd(position, tabId);
+            PostTask.postTask(TaskTraits.UI_USER_VISIBLE, () -> {
+                // The card may have been rebound meanwhile.
+                if (displayAdItem != mNewsItem) return;
+                onDisplayAdLoaded(posTabAd, position);
+            });
+        });
+    }
+
+    private void onDisplayAdLoaded(DisplayAdsTable posTabAd, int position) {
+        if (posTabAd != null) {
+            createAdFromTable(posTabAd);
+            return;
+        }
+        final FeedItemsCard displayAdItem = mNewsItem;
+        mBraveNewsController.getDisplayAd(adData -> {
+            BraveNewsUtils.putToDisplayAdsMap(position, adData);
+            if (displayAdItem != mNewsItem) return;
+            createdDisplayAdCard(adData);
+        });
+    }
+
     private void showBraveNewsRatingUI(
             LinearLayout linearLayout, RecyclerView.LayoutParams linearLayoutParams) {
         View view = LayoutInflater.from(ContextUtils.getApplicationContext())
@@ -1200,38 +1315,50 @@ public class CardBuilderFeedCard {
 
             setTextFromFeed(title, TITLE, index);
 
-            final FeedItemMetadata itemData = getItemData(index);
-
-            view.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    // @TODO alex refactor this with listener in BraveNewTabPageLayout
-                    openUrlInSameTabAndSavePosition(itemData.url.url);
-                }
-            });
-
-            title.setOnClickListener(new View.OnClickListener() {
-                @Override
-                public void onClick(View v) {
-                    // @TODO alex refactor this with listener in BraveNewTabPageLayout
-                    openUrlInSameTabAndSavePosition(itemData.url.url);
-                }
-            });
-
-            title.setOnLongClickListener(new View.OnLongClickListener() {
-                @Override
-                public boolean onLongClick(View v) {
-                    showBottomSheetDialog(
-                            itemData.url.url, itemData.publisherId, itemData.publisherName);
-                    return true;
-                }
-            });
+            mItemSlots.add(new ItemSlot(view, title, index));
+            applyItemListeners(view, title, index);
 
         } catch (Exception e) {
             Log.e(TAG, "Exception addElementsToSingleLayout: " + e.getMessage());
         }
     }
 
+    private void applyItemListeners(View view, TextView title, int index) {
+        final FeedItemMetadata itemData = getItemData(index);
+        if (itemData == null) {
+            // The card has fewer items than this row, e.g. after a rebind.
+            view.setOnClickListener(null);
+            title.setOnClickListener(null);
+            title.setOnLongClickListener(null);
+            return;
+        }
+
+        view.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                // @TODO alex refactor this with listener in BraveNewTabPageLayout
+                openUrlInSameTabAndSavePosition(itemData.url.url);
+            }
+        });
+
+        title.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                // @TODO alex refactor this with listener in BraveNewTabPageLayout
+                openUrlInSameTabAndSavePosition(itemData.url.url);
+            }
+        });
+
+        title.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View v) {
+                showBottomSheetDialog(
+                        itemData.url.url, itemData.publisherId, itemData.publisherName);
+                return true;
+            }
+        });
+    }
+
     private void showBottomSheetDialog(String urlString, String publisherId, String publisherName) {
         BraveNewsBottomSheetDialogFragment bottomSheetDialog =
                 BraveNewsBottomSheetDialogFragment.newInstance();
@@ -1247,11 +1374,20 @@ public class CardBuilderFeedCard {
     }
 
     private void setTextFromFeed(TextView textView, int type, int index) {
+        mTextSlots.add(new TextSlot(textView, type, index));
+        applyTextFromFeed(textView, type, index);
+    }
+
+    private void applyTextFromFeed(TextView textView, int type, int index) {
         try {
             FeedItemMetadata itemData = getItemData(index);
             if (itemData != null) {
                 setText(itemData, textView, type);
                 setListeners(textView, itemData.url.url, mCreativeInstanceId, mIsPromo);
+            } else {
+                // Don't keep the text of the item a rebound card showed in this row.
+                textView.setText(null);
+                textView.setOnClickListener(null);
             }
 
         } catch (Exception e) {
@@ -1372,7 +1508,7 @@ public class CardBuilderFeedCard {
 
         final Url adImageUrl = imageUrlTemp;
         if (mBraveNewsController != null) {
-            mBraveNewsController.getImageData(adImageUrl, imageData -> {
+            NewsImageCache.getImageData(mBraveNewsController, adImageUrl, imageData -> {
                 if (imageData != null) {
                     Bitmap decodedByte =
                             BitmapFactory.decodeByteArray(imageData, 0, imageData.length);
@@ -1398,8 +1534,14 @@ public class CardBuilderFeedCard {
     }
 
     private void setImage(ImageView imageView, String type, int index) {
-        List<FeedItemCard> feedItemsCard = mNewsItem.getFeedItems();
-        if (feedItemsCard != null) {
+        mImageSlots.add(new ImageSlot(imageView, type, index));
+        loadImage(imageView, type, index);
+    }
+
+    private void loadImage(ImageView imageView, String type, int index) {
+        final FeedItemsCard newsItem = mNewsItem;
+        List<FeedItemCard> feedItemsCard = newsItem.getFeedItems();
+        if (feedItemsCard != null && index < feedItemsCard.size()) {
             FeedItemCard feedItemCard = feedItemsCard.get(index);
             FeedItem item = feedItemCard.getFeedItem();
 
@@ -1421,8 +1563,9 @@ public class CardBuilderFeedCard {
 
             Url itemImageUrl = getImage(itemMetaData);
             if (mBraveNewsController != null) {
-                mBraveNewsController.getImageData(itemImageUrl, imageData -> {
-                    if (imageData != null) {
+                NewsImageCache.getImageData(mBraveNewsController, itemImageUrl, imageData -> {
+                    // Skip images that arrive after the card was rebound to another item.
+                    if (imageData != null && newsItem == mNewsItem) {
                         GranularRoundedCorners radius = new GranularRoundedCorners(15, 15, 15, 15);
                         if (!type.equals("paired")) {
                             radius = new GranularRoundedCorners(30, 30, 0, 0);
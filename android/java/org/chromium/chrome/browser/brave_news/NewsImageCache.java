@@ -0,0 +1,270 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import android.util.LruCache;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.BraveNewsController;
+import org.chromium.mojo.bindings.Callbacks;
+import org.chromium.url.mojom.Url;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of Brave News image data, keyed by image URL. The unpadded bytes returned by
+ * {@link BraveNewsController#getImageData} are kept in an in-memory LRU and on disk, so binding
+ * a card again doesn't go through mojo. Concurrent requests for the same URL on the same controller
+ * share one fetch.
+ * All methods must be called on the UI thread; callbacks are invoked on the UI thread.
+ */
+public class NewsImageCache {
+    private static final String TAG = "NewsImageCache";
+
+    private static final String CACHE_DIR = "brave_news_images";
+    private static final int MAX_MEMORY_BYTES = 8 * 1024 * 1024;
+    private static final int MAX_DISK_BYTES = 30 * 1024 * 1024;
+    private static final int MAX_CONCURRENT_PREFETCHES = 2;
+
+    private static final LruCache<String, byte[]> sMemoryCache =
+            new LruCache<String, byte[]>(MAX_MEMORY_BYTES) {
+                @Override
+                protected int sizeOf(String key, byte[] imageData) {
+                    return imageData.length;
+                }
+            };
+    // Callbacks waiting for an in-flight request, by controller and then by image URL. A closed
+    // controller drops its pending callbacks, so other controllers never join its requests.
+    private static final Map<BraveNewsController, Map<String, List<Callbacks.Callback1<byte[]>>>>
+            sPendingRequests = new IdentityHashMap<>();
+    // Prefetches not started yet, replaced by every prefetch() call.
+    private static final ArrayDeque<Url> sPrefetchQueue = new ArrayDeque<>();
+    private static BraveNewsController sPrefetchController;
+    private static int sActivePrefetches;
+
+    /** Gets the image data from the cache, or from {@code braveNewsController} on a miss. */
+    public static void getImageData(BraveNewsController braveNewsController, Url imageUrl,
+            Callbacks.Callback1<byte[]> callback) {
+        ThreadUtils.assertOnUiThread();
+        if (imageUrl == null || imageUrl.url == null || imageUrl.url.isEmpty()) {
+            braveNewsController.getImageData(imageUrl, callback::call);
+            return;
+        }
+        String key = imageUrl.url;
+        byte[] imageData = sMemoryCache.get(key);
+        if (imageData != null) {
+            callback.call(imageData);
+            return;
+        }
+        Map<String, List<Callbacks.Callback1<byte[]>>> controllerRequests =
+                sPendingRequests.get(braveNewsController);
+        if (controllerRequests == null) {
+            controllerRequests = new HashMap<>();
+            sPendingRequests.put(braveNewsController, controllerRequests);
+        }
+        List<Callbacks.Callback1<byte[]>> pending = controllerRequests.get(key);
+        if (pending != null) {
+            pending.add(callback);
+            return;
+        }
+        List<Callbacks.Callback1<byte[]>> callbacks = new ArrayList<>();
+        callbacks.add(callback);
+        controllerRequests.put(key, callbacks);
+
+        PostTask.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+            byte[] diskImageData = readFromDisk(key);
+            PostTask.postTask(TaskTraits.UI_USER_VISIBLE, () -> {
+                if (diskImageData != null) {
+                    deliver(braveNewsController, key, diskImageData);
+                    return;
+                }
+                // The controller was closed while reading the disk, the callbacks already ran.
+                if (!isPending(braveNewsController, key, callbacks)) return;
+                braveNewsController.getImageData(imageUrl, fetchedImageData -> {
+                    deliver(braveNewsController, key, fetchedImageData);
+                    if (fetchedImageData != null) {
+                        PostTask.postTask(TaskTraits.BEST_EFFORT_MAY_BLOCK,
+                                () -> writeToDisk(key, fetchedImageData));
+                    }
+                });
+            });
+        });
+    }
+
+    /**
+     * Fetches the images about to be shown. Replaces the previous prefetch list, so images that
+     * scrolled out of range and haven't started yet are dropped.
+     */
+    public static void prefetch(BraveNewsController braveNewsController, List<Url> imageUrls) {
+        ThreadUtils.assertOnUiThread();
+        sPrefetchController = braveNewsController;
+        sPrefetchQueue.clear();
+        Map<String, List<Callbacks.Callback1<byte[]>>> controllerRequests =
+                sPendingRequests.get(braveNewsController);
+        Set<String> queued = new HashSet<>();
+        for (Url imageUrl : imageUrls) {
+            if (imageUrl == null || imageUrl.url == null || imageUrl.url.isEmpty()) continue;
+            if (sMemoryCache.get(imageUrl.url) != null
+                    || (controllerRequests != null && controllerRequests.containsKey(imageUrl.url))
+                    || !queued.add(imageUrl.url)) {
+                continue;
+            }
+            sPrefetchQueue.add(imageUrl);
+        }
+        startPrefetches();
+    }
+
+    /**
+     * Must be called before {@code braveNewsController} is closed. Drops its pending prefetches
+     * and completes its in-flight requests with null, since the closed controller would never
+     * answer them.
+     */
+    public static void onControllerClosed(BraveNewsController braveNewsController) {
+        ThreadUtils.assertOnUiThread();
+        if (sPrefetchController == braveNewsController) {
+            sPrefetchQueue.clear();
+            sPrefetchController = null;
+        }
+        Map<String, List<Callbacks.Callback1<byte[]>>> controllerRequests =
+                sPendingRequests.remove(braveNewsController);
+        if (controllerRequests == null) return;
+        // Also releases the active prefetches of the controller through their callbacks.
+        for (List<Callbacks.Callback1<byte[]>> callbacks : controllerRequests.values()) {
+            for (Callbacks.Callback1<byte[]> callback : callbacks) {
+                callback.call(null);
+            }
+        }
+    }
+
+    private static void startPrefetches() {
+        while (sActivePrefetches < MAX_CONCURRENT_PREFETCHES && !sPrefetchQueue.isEmpty()
+                && sPrefetchController != null) {
+            Url imageUrl = sPrefetchQueue.poll();
+            if (sMemoryCache.get(imageUrl.url) != null) continue;
+            sActivePrefetches++;
+            getImageData(sPrefetchController, imageUrl, imageData -> {
+                sActivePrefetches--;
+                startPrefetches();
+            });
+        }
+    }
+
+    private static boolean isPending(BraveNewsController braveNewsController, String key,
+            List<Callbacks.Callback1<byte[]>> callbacks) {
+        Map<String, List<Callbacks.Callback1<byte[]>>> controllerRequests =
+                sPendingRequests.get(braveNewsController);
+        return controllerRequests != null && controllerRequests.get(key) == callbacks;
+    }
+
+    private static void deliver(
+            BraveNewsController braveNewsController, String key, byte[] imageData) {
+        if (imageData != null) {
+            sMemoryCache.put(key, imageData);
+        }
+        Map<String, List<Callbacks.Callback1<byte[]>>> controllerRequests =
+                sPendingRequests.get(braveNewsController);
+        if (controllerRequests == null) return;
+        List<Callbacks.Callback1<byte[]>> callbacks = controllerRequests.remove(key);
+        if (controllerRequests.isEmpty()) {
+            sPendingRequests.remove(braveNewsController);
+        }
+        if (callbacks == null) return;
+        for (Callbacks.Callback1<byte[]> callback : callbacks) {
+            callback.call(imageData);
+        }
+    }
+
+    private static File getCacheFile(String key) {
+        File dir = new File(ContextUtils.getApplicationContext().getCacheDir(), CACHE_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                fileName.append(String.format("%02x", b));
+            }
+            return new File(dir, fileName.toString());
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static byte[] readFromDisk(String key) {
+        File file = getCacheFile(key);
+        if (file == null || !file.exists()) return null;
+        byte[] imageData = new byte[(int) file.length()];
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            int offset = 0;
+            while (offset < imageData.length) {
+                int read = inputStream.read(imageData, offset, imageData.length - offset);
+                if (read < 0) return null;
+                offset += read;
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "readFromDisk: IOException: " + e.getMessage());
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        return imageData;
+    }
+
+    private static void writeToDisk(String key, byte[] imageData) {
+        File file = getCacheFile(key);
+        if (file == null) return;
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(tmpFile)) {
+            outputStream.write(imageData);
+        } catch (IOException e) {
+            Log.e(TAG, "writeToDisk: IOException: " + e.getMessage());
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+            return;
+        }
+        trimDiskCache(file.getParentFile());
+    }
+
+    private static void trimDiskCache(File dir) {
+        File[] files = dir.listFiles((file) -> !file.getName().endsWith(".tmp"));
+        if (files == null) return;
+        long totalBytes = 0;
+        for (File file : files) {
+            totalBytes += file.length();
+        }
+        if (totalBytes <= MAX_DISK_BYTES) return;
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (totalBytes <= MAX_DISK_BYTES) break;
+            totalBytes -= file.length();
+            file.delete();
+        }
+    }
+}
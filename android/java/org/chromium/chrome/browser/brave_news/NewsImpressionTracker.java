@@ -0,0 +1,250 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.brave_news;
+
+import android.graphics.Rect;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+import android.view.View;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import org.chromium.base.BravePreferenceKeys;
+import org.chromium.base.ContextUtils;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_news.mojom.BraveNewsController;
+import org.chromium.brave_news.mojom.CardType;
+import org.chromium.brave_news.mojom.DisplayAd;
+import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
+import org.chromium.chrome.browser.local_database.DatabaseHelper;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reports promoted article and display ad views of the Brave News feed, and polls for a newer
+ * feed while the feed is in view and the window is visible. Visibility is sampled at most once
+ * per frame, however often the RecyclerView scrolls, and a card counts as viewed once it stays at
+ * least half visible for {@link BraveNewsUtils#BRAVE_NEWS_VIEWD_CARD_TIME}. Must be used on the UI
+ * thread.
+ */
+public class NewsImpressionTracker {
+    private static final int MINIMUM_VISIBLE_HEIGHT_THRESHOLD = 50;
+    private static final long FEED_FRESHNESS_INTERVAL_MS = 60 * 1000;
+
+    /** Feed state the tracker reads, and the events it reports back. */
+    public interface Delegate {
+        /** @return the adapter position of the first news card. */
+        int getFirstNewsPosition();
+
+        List<FeedItemsCard> getNewsCards();
+
+        @Nullable
+        BraveNewsController getBraveNewsController();
+
+        /** Called once the display ad at {@code position} of the feed has been viewed. */
+        void onDisplayAdViewed(DisplayAd displayAd, int position);
+
+        /** Called when a newer feed than the one shown is available. */
+        void onFeedUpdateAvailable();
+    }
+
+    // Display ads reported in this process, so their views are only looked up in the database
+    // once.
+    private static final Set<String> sReportedAdUuids = new HashSet<>();
+
+    private final RecyclerView mRecyclerView;
+    private final LinearLayoutManager mLayoutManager;
+    private final Delegate mDelegate;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Rect mRecyclerRect = new Rect();
+    private final Rect mRowRect = new Rect();
+    // Promoted article card and display ad uuids at least half visible in the last sample.
+    private final Set<String> mVisibleUuids = new HashSet<>();
+    // Uuids with a dwell check posted to mHandler.
+    private final Set<String> mPendingDwellUuids = new HashSet<>();
+    private final Choreographer.FrameCallback mSampleCallback = frameTimeNanos -> {
+        mSamplePending = false;
+        sample();
+    };
+    private final Runnable mFreshnessCheck = this::checkFeedFreshness;
+    private boolean mSamplePending;
+    private boolean mPollingFreshness;
+    private boolean mFeedUpdateReported;
+    private long mLastFreshnessCheckMs;
+    private boolean mVisible = true;
+    private boolean mDestroyed;
+
+    public NewsImpressionTracker(
+            RecyclerView recyclerView, LinearLayoutManager layoutManager, Delegate delegate) {
+        mRecyclerView = recyclerView;
+        mLayoutManager = layoutManager;
+        mDelegate = delegate;
+    }
+
+    /** Samples the visible cards on the next frame, unless a sample is already scheduled. */
+    public void requestSample() {
+        ThreadUtils.assertOnUiThread();
+        if (mSamplePending || mDestroyed) return;
+        mSamplePending = true;
+        Choreographer.getInstance().postFrameCallback(mSampleCallback);
+    }
+
+    /** Forgets the visible cards and resumes feed polling after the feed was replaced. */
+    public void onFeedChanged() {
+        mVisibleUuids.clear();
+        mFeedUpdateReported = false;
+    }
+
+    /**
+     * Pauses feed polling while the window is hidden or unfocused, e.g. when the app is in
+     * background, and resumes it if the feed is still in view once it's visible again.
+     */
+    public void onVisibilityChanged(boolean visible) {
+        ThreadUtils.assertOnUiThread();
+        if (mDestroyed || mVisible == visible) return;
+        mVisible = visible;
+        if (visible) {
+            requestSample();
+        } else {
+            stopFeedFreshnessPolling();
+        }
+    }
+
+    /** Stops sampling, dwell checks and feed polling. The tracker can't be used afterwards. */
+    public void destroy() {
+        mDestroyed = true;
+        if (mSamplePending) {
+            Choreographer.getInstance().removeFrameCallback(mSampleCallback);
+            mSamplePending = false;
+        }
+        mHandler.removeCallbacksAndMessages(null);
+        mPendingDwellUuids.clear();
+        mVisibleUuids.clear();
+        mPollingFreshness = false;
+    }
+
+    private void sample() {
+        int firstVisiblePosition = mLayoutManager.findFirstVisibleItemPosition();
+        int lastVisiblePosition = mLayoutManager.findLastVisibleItemPosition();
+        int newsPosition = mDelegate.getFirstNewsPosition();
+        mVisibleUuids.clear();
+        if (firstVisiblePosition == RecyclerView.NO_POSITION
+                || firstVisiblePosition < newsPosition - 1) {
+            stopFeedFreshnessPolling();
+            return;
+        }
+        startFeedFreshnessPolling();
+
+        List<FeedItemsCard> cards = mDelegate.getNewsCards();
+        if (!mRecyclerView.getGlobalVisibleRect(mRecyclerRect)) return;
+        for (int position = Math.max(firstVisiblePosition, newsPosition);
+                position <= lastVisiblePosition; position++) {
+            int cardPosition = position - newsPosition;
+            if (cardPosition >= cards.size()) break;
+            View row = mLayoutManager.findViewByPosition(position);
+            if (row == null || row.getHeight() <= 0 || !row.getGlobalVisibleRect(mRowRect)) {
+                continue;
+            }
+            int visibleHeight = Math.min(mRowRect.bottom, mRecyclerRect.bottom)
+                    - Math.max(mRowRect.top, mRecyclerRect.top);
+            if (visibleHeight * 100 / row.getHeight() >= MINIMUM_VISIBLE_HEIGHT_THRESHOLD) {
+                onCardVisible(cards.get(cardPosition), cardPosition);
+            }
+        }
+    }
+
+    private void onCardVisible(FeedItemsCard card, int cardPosition) {
+        if (card.getCardType() == CardType.PROMOTED_ARTICLE) {
+            String uuid = card.getUuid();
+            if (card.isViewStatSent() || uuid == null || uuid.isEmpty()) return;
+            mVisibleUuids.add(uuid);
+            scheduleDwellCheck(uuid, () -> reportPromotedItem(card));
+        } else if (card.getCardType() == CardType.DISPLAY_AD) {
+            DisplayAd displayAd = BraveNewsUtils.getFromDisplayAdsMap(cardPosition);
+            if (displayAd == null || sReportedAdUuids.contains(displayAd.uuid)) return;
+            mVisibleUuids.add(displayAd.uuid);
+            scheduleDwellCheck(
+                    displayAd.uuid, () -> reportDisplayAd(card, displayAd, cardPosition));
+        }
+    }
+
+    private void scheduleDwellCheck(String uuid, Runnable report) {
+        if (!mPendingDwellUuids.add(uuid)) return;
+        mHandler.postDelayed(() -> {
+            mPendingDwellUuids.remove(uuid);
+            // Scrolled away before the dwell time, it is checked again when it comes back.
+            if (mVisibleUuids.contains(uuid)) report.run();
+        }, BraveNewsUtils.BRAVE_NEWS_VIEWD_CARD_TIME);
+    }
+
+    private void reportPromotedItem(FeedItemsCard card) {
+        BraveNewsController braveNewsController = mDelegate.getBraveNewsController();
+        if (braveNewsController == null || card.isViewStatSent()) return;
+        card.setViewStatSent(true);
+        braveNewsController.onPromotedItemView(
+                card.getUuid(), BraveNewsUtils.getPromotionIdItem(card));
+    }
+
+    private void reportDisplayAd(FeedItemsCard card, DisplayAd displayAd, int cardPosition) {
+        if (!sReportedAdUuids.add(displayAd.uuid)) return;
+        // Views of an ad shown in an earlier session are already in the database.
+        PostTask.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+            if (DatabaseHelper.getInstance().isDisplayAdAlreadyAdded(displayAd.uuid)) return;
+            PostTask.postTask(TaskTraits.UI_USER_VISIBLE, () -> {
+                BraveNewsController braveNewsController = mDelegate.getBraveNewsController();
+                if (mDestroyed || braveNewsController == null) {
+                    sReportedAdUuids.remove(displayAd.uuid);
+                    return;
+                }
+                card.setViewStatSent(true);
+                braveNewsController.onDisplayAdView(displayAd.uuid, displayAd.creativeInstanceId);
+                mDelegate.onDisplayAdViewed(displayAd, cardPosition);
+            });
+        });
+    }
+
+    private void startFeedFreshnessPolling() {
+        if (mPollingFreshness || mFeedUpdateReported || !mVisible) return;
+        mPollingFreshness = true;
+        // Scrolling in and out of the feed doesn't check more often than the interval.
+        long sinceLastCheckMs = SystemClock.elapsedRealtime() - mLastFreshnessCheckMs;
+        mHandler.postDelayed(
+                mFreshnessCheck, Math.max(0, FEED_FRESHNESS_INTERVAL_MS - sinceLastCheckMs));
+    }
+
+    private void stopFeedFreshnessPolling() {
+        if (!mPollingFreshness) return;
+        mPollingFreshness = false;
+        mHandler.removeCallbacks(mFreshnessCheck);
+    }
+
+    private void checkFeedFreshness() {
+        if (!mPollingFreshness) return;
+        mLastFreshnessCheckMs = SystemClock.elapsedRealtime();
+        BraveNewsController braveNewsController = mDelegate.getBraveNewsController();
+        if (braveNewsController != null) {
+            String feedHash = ContextUtils.getAppSharedPreferences().getString(
+                    BravePreferenceKeys.BRAVE_NEWS_FEED_HASH, "");
+            braveNewsController.isFeedUpdateAvailable(feedHash, isNewsFeedAvailable -> {
+                if (!isNewsFeedAvailable || !mPollingFreshness) return;
+                // Polling resumes with onFeedChanged() once the new feed is shown.
+                mPollingFreshness = false;
+                mFeedUpdateReported = true;
+                mHandler.removeCallbacks(mFreshnessCheck);
+                mDelegate.onFeedUpdateAvailable();
+            });
+        }
+        mHandler.postDelayed(mFreshnessCheck, FEED_FRESHNESS_INTERVAL_MS);
+    }
+}
@@ -15,6 +15,7 @@ public class FeedItemsCard {
     private int cardType;
     private byte[] imageByte;
     private String uuid;
+    private String contentId;
     private boolean viewStatSent;
     private DisplayAd displayAd;
 
@@ -54,6 +55,14 @@ public class FeedItemsCard {
         this.uuid = uuid;
     }
 
+    public String getContentId() {
+        return contentId;
+    }
+
+    public void setContentId(String contentId) {
+        this.contentId = contentId;
+    }
+
     public boolean isViewStatSent() {
         return viewStatSent;
     }
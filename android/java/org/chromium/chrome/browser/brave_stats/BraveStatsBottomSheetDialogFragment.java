@@ -57,6 +57,9 @@ public class BraveStatsBottomSheetDialogFragment extends BottomSheetDialogFragme
     private static final int DAYS_30 = -30;
     private static final int DAYS_90 = -90;
 
+    // Maximum number of websites or trackers listed in the sheet.
+    private static final int MAX_TOP_ENTRIES = 100;
+
     private TextView adsTrackersCountText;
     private TextView adsTrackersText;
     private TextView dataSavedCountText;
@@ -240,27 +243,18 @@ public class BraveStatsBottomSheetDialogFragment extends BottomSheetDialogFragme
             long adsTrackersCountToCheckFor3Month;
             @Override
             protected Void doInBackground() {
-                adsTrackersCount =
-                    mDatabaseHelper
-                    .getAllStatsWithDate(BraveStatsUtil.getCalculatedDate(
-                                             "yyyy-MM-dd", selectedDuration),
-                                         BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0))
-                    .size();
+                adsTrackersCount = mDatabaseHelper.getStatsCountWithDate(
+                        BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", selectedDuration),
+                        BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
                 totalSavedBandwidth = mDatabaseHelper.getTotalSavedBandwidthWithDate(
                                           BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", selectedDuration),
                                           BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
-                adsTrackersCountToCheckForMonth =
-                    mDatabaseHelper
-                    .getAllStatsWithDate(
+                adsTrackersCountToCheckForMonth = mDatabaseHelper.getStatsCountWithDate(
                         BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", DAYS_30),
-                        BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", DAYS_7))
-                    .size();
-                adsTrackersCountToCheckFor3Month =
-                    mDatabaseHelper
-                    .getAllStatsWithDate(
+                        BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", DAYS_7));
+                adsTrackersCountToCheckFor3Month = mDatabaseHelper.getStatsCountWithDate(
                         BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", DAYS_90),
-                        BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", DAYS_30))
-                    .size();
+                        BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", DAYS_30));
                 return null;
             }
 
@@ -338,11 +332,13 @@ public class BraveStatsBottomSheetDialogFragment extends BottomSheetDialogFragme
                 if (selectedType == WEBSITES) {
                     websiteTrackers = mDatabaseHelper.getStatsWithDate(
                                           BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", selectedDuration),
-                                          BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
+                                          BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0),
+                                          MAX_TOP_ENTRIES);
                 } else {
                     websiteTrackers = mDatabaseHelper.getSitesWithDate(
                                           BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", selectedDuration),
-                                          BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
+                                          BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0),
+                                          MAX_TOP_ENTRIES);
                 }
                 return null;
             }
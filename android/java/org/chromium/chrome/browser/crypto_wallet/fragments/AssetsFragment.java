@@ -232,6 +232,14 @@ public class AssetsFragment extends Fragment implements OnWalletListItemClick, A
         });
     }
 
+    @Override
+    public void onDestroyView() {
+        if (mPortfolioHelper != null) {
+            mPortfolioHelper.cancelPendingRequests();
+        }
+        super.onDestroyView();
+    }
+
     private void setUpCoinList(List<BlockchainToken> userAssets,
             HashMap<String, Double> perTokenCryptoSum, HashMap<String, Double> perTokenFiatSum,
             List<NetworkInfo> networkInfos) {
@@ -17,6 +17,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import org.chromium.base.Log;
@@ -48,6 +49,7 @@ public class TransactionsFragment extends Fragment implements OnWalletListItemCl
     private RecyclerView mRvTransactions;
     private WalletCoinAdapter mWalletTxAdapter;
     private List<WalletListItemModel> mWalletListItemModelList;
+    private List<WalletListItemModel> mDisplayedItems = Collections.emptyList();
     private TextView mTvEmptyListLabel;
     private TextView mTvEmptyListDesc;
     private ShimmerFrameLayout mShimmerLoading;
@@ -90,6 +92,7 @@ public class TransactionsFragment extends Fragment implements OnWalletListItemCl
         mWalletTxAdapter.setOnWalletListItemClick(TransactionsFragment.this);
         mWalletTxAdapter.setWalletListItemType(Utils.TRANSACTION_ITEM);
         mRvTransactions.setAdapter(mWalletTxAdapter);
+        mDisplayedItems = Collections.emptyList();
         mShimmerItems = view.findViewById(R.id.ll_shimmer_items);
         int shimmerSkeletonRows =
                 AndroidUtils.getSkeletonRowCount(ViewUtils.dpToPx(requireContext(), 50));
@@ -148,7 +151,40 @@ public class TransactionsFragment extends Fragment implements OnWalletListItemCl
 
     @SuppressLint("NotifyDataSetChanged")
     private void updateTransactionList(List<WalletListItemModel> walletListItemModelList) {
+        if (mDisplayedItems.isEmpty()) {
+            mWalletTxAdapter.setWalletListItemModelList(walletListItemModelList);
+            mWalletTxAdapter.notifyDataSetChanged();
+            mDisplayedItems = walletListItemModelList;
+            return;
+        }
+        // TransactionsModel keeps the item instances of unchanged transactions, so only the
+        // added, removed and re-parsed transactions are rebound.
+        List<WalletListItemModel> oldItems = mDisplayedItems;
+        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldItems.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return walletListItemModelList.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldItems.get(oldItemPosition).getTransactionInfo().id.equals(
+                        walletListItemModelList.get(newItemPosition).getTransactionInfo().id);
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                return oldItems.get(oldItemPosition)
+                        == walletListItemModelList.get(newItemPosition);
+            }
+        });
         mWalletTxAdapter.setWalletListItemModelList(walletListItemModelList);
-        mWalletTxAdapter.notifyDataSetChanged();
+        diffResult.dispatchUpdatesTo(mWalletTxAdapter);
+        mDisplayedItems = walletListItemModelList;
     }
 }
@@ -55,6 +55,7 @@ import org.chromium.chrome.browser.crypto_wallet.activities.NetworkSelectorActiv
 import org.chromium.chrome.browser.crypto_wallet.util.AccountsPermissionsHelper;
 import org.chromium.chrome.browser.crypto_wallet.util.AssetsPricesHelper;
 import org.chromium.chrome.browser.crypto_wallet.util.BalanceHelper;
+import org.chromium.chrome.browser.crypto_wallet.util.TokenAmount;
 import org.chromium.chrome.browser.crypto_wallet.util.Utils;
 import org.chromium.chrome.browser.crypto_wallet.util.WalletUtils;
 import org.chromium.chrome.browser.util.ConfigurationUtils;
@@ -398,10 +399,12 @@ public class BraveWalletPanel implements DialogInterface {
                                         double price = Utils.getOrDefault(assetPrices,
                                                 asset.symbol.toLowerCase(Locale.getDefault()),
                                                 0.0d);
-                                        double balance = Utils.getOrDefault(nativeAssetsBalances,
+                                        TokenAmount balanceAmount = Utils.getOrDefault(
+                                                nativeAssetsBalances,
                                                 mSelectedAccount.address.toLowerCase(
                                                         Locale.getDefault()),
-                                                0.0d);
+                                                TokenAmount.ZERO);
+                                        double balance = balanceAmount.toDouble();
                                         String fiatBalanceString = String.format(
                                                 Locale.getDefault(), "$%,.2f", balance * price);
                                         String cryptoBalanceString =
@@ -6,7 +6,10 @@
 package org.chromium.chrome.browser.crypto_wallet.observers;
 
 import org.chromium.brave_wallet.mojom.TransactionInfo;
+import org.chromium.brave_wallet.mojom.TransactionStatus;
 import org.chromium.brave_wallet.mojom.TxServiceObserver;
+import org.chromium.chrome.browser.crypto_wallet.util.BalanceHelper;
+import org.chromium.chrome.browser.crypto_wallet.util.NftMetadataCache;
 import org.chromium.mojo.system.MojoException;
 
 public class TxServiceObserverImpl implements TxServiceObserver {
@@ -38,13 +41,20 @@ public class TxServiceObserverImpl implements TxServiceObserver {
 
     @Override
     public void onTransactionStatusChanged(TransactionInfo txInfo) {
+        if (txInfo.txStatus == TransactionStatus.CONFIRMED) {
+            // Balances on the chain changed, both for the sender and for any recipient account.
+            BalanceHelper.invalidateTokenBalances(txInfo.chainId);
+        }
         if (mDelegate == null) return;
 
         mDelegate.onTransactionStatusChanged(txInfo);
     }
 
     @Override
-    public void onTxServiceReset() {}
+    public void onTxServiceReset() {
+        BalanceHelper.invalidateTokenBalances();
+        NftMetadataCache.clear();
+    }
 
     @Override
     public void close() {
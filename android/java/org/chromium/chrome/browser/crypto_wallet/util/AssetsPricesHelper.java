@@ -5,62 +5,246 @@
 
 package org.chromium.chrome.browser.crypto_wallet.util;
 
+import android.os.SystemClock;
+
 import org.chromium.base.Log;
 import org.chromium.brave_wallet.mojom.AssetPrice;
 import org.chromium.brave_wallet.mojom.AssetPriceTimeframe;
 import org.chromium.brave_wallet.mojom.AssetRatioService;
+import org.chromium.brave_wallet.mojom.AssetTimePrice;
 import org.chromium.brave_wallet.mojom.BlockchainToken;
 import org.chromium.mojo.bindings.Callbacks;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Fetches live USD asset prices and price histories. Both are shared between screens through an
+ * in-memory cache with a TTL: stale entries are returned immediately while a refresh runs, missing
+ * prices are requested in batched {@code getPrice} calls, and an entry that is already being
+ * fetched is not requested again. All methods are expected to be called on the UI thread, where
+ * the mojo responses are delivered.
+ */
 public class AssetsPricesHelper {
     private static final String TAG = "AssetsPricesHelper";
 
+    private static final String USD = "usd";
+    private static final int MAX_SYMBOLS_PER_REQUEST = 32;
+    private static final long USD_PRICE_TTL_MS = 60 * 1000;
+    private static final long LIVE_HISTORY_TTL_MS = 60 * 1000;
+    private static final long DEFAULT_HISTORY_TTL_MS = 10 * 60 * 1000;
+
+    /** USD price history of an asset, with the prices parsed once. */
+    public static class PriceHistory {
+        public final AssetTimePrice[] timePrices;
+        public final double[] prices;
+
+        PriceHistory(AssetTimePrice[] timePrices, double[] prices) {
+            this.timePrices = timePrices;
+            this.prices = prices;
+        }
+    }
+
+    private static class CachedPriceHistory {
+        final PriceHistory mPriceHistory;
+        final long mFetchedAtMs;
+
+        CachedPriceHistory(PriceHistory priceHistory, long fetchedAtMs) {
+            mPriceHistory = priceHistory;
+            mFetchedAtMs = fetchedAtMs;
+        }
+    }
+
+    private static class CachedPrice {
+        final double mPrice;
+        final long mFetchedAtMs;
+
+        CachedPrice(double price, long fetchedAtMs) {
+            mPrice = price;
+            mFetchedAtMs = fetchedAtMs;
+        }
+    }
+
+    // Cached USD prices by lower case asset symbol.
+    private static final Map<String, CachedPrice> sPriceCache = new HashMap<>();
+    // In-flight USD prices by lower case asset symbol.
+    private static final InFlightRequests<Void> sInFlight = new InFlightRequests<>();
+    // Cached histories by "timeframe|asset ratio id".
+    private static final Map<String, CachedPriceHistory> sHistoryCache = new HashMap<>();
+    // In-flight histories by "timeframe|asset ratio id".
+    private static final InFlightRequests<Void> sHistoryInFlight = new InFlightRequests<>();
+
+    /**
+     * Fetches the USD prices of the assets, by lower case symbol. The callback runs after {@link
+     * AsyncUtils#DEFAULT_RESPONSES_TIMEOUT_MS} at the latest, without the prices that haven't
+     * arrived by then.
+     */
     public static void fetchPrices(AssetRatioService assetRatioService, BlockchainToken[] assets,
             Callbacks.Callback1<HashMap<String, Double>> callback) {
-        HashMap<String, Double> assetsPrices = new HashMap<String, Double>();
-        AsyncUtils.MultiResponseHandler pricesMultiResponse =
-                new AsyncUtils.MultiResponseHandler(assets.length);
-        ArrayList<AsyncUtils.GetPriceResponseContext> pricesContexts =
-                new ArrayList<AsyncUtils.GetPriceResponseContext>();
+        long now = SystemClock.elapsedRealtime();
 
+        LinkedHashSet<String> symbols = new LinkedHashSet<>();
         for (BlockchainToken asset : assets) {
-            String assetSymbolLower = asset.symbol.toLowerCase(Locale.getDefault());
-            String[] fromAssets = new String[] {assetSymbolLower};
-            String[] toAssets = new String[] {"usd"};
+            symbols.add(asset.symbol.toLowerCase(Locale.getDefault()));
+        }
 
-            AsyncUtils.GetPriceResponseContext priceContext =
-                    new AsyncUtils.GetPriceResponseContext(
-                            pricesMultiResponse.singleResponseComplete);
-            pricesContexts.add(priceContext);
+        // Symbols without any cached price, the caller has to wait for them.
+        Set<String> missing = new HashSet<>();
+        for (String symbol : symbols) {
+            if (!sPriceCache.containsKey(symbol)) {
+                missing.add(symbol);
+            }
+        }
 
-            assetRatioService.getPrice(
-                    fromAssets, toAssets, AssetPriceTimeframe.LIVE, priceContext);
+        AsyncUtils.MultiResponseHandler pricesMultiResponse =
+                new AsyncUtils.MultiResponseHandler(missing.size());
+        // Symbols that need a network request, missing or stale and not already in flight.
+        List<String> toRequest = new ArrayList<>();
+        for (String symbol : symbols) {
+            CachedPrice cached = sPriceCache.get(symbol);
+            if (cached != null && now - cached.mFetchedAtMs <= USD_PRICE_TTL_MS) continue;
+            Callbacks.Callback1<Void> waiter = missing.contains(symbol)
+                    ? unused -> pricesMultiResponse.singleResponseComplete.run()
+                    : null;
+            if (sInFlight.add(assetRatioService, symbol, waiter)) {
+                toRequest.add(symbol);
+            }
+        }
+        for (int start = 0; start < toRequest.size(); start += MAX_SYMBOLS_PER_REQUEST) {
+            requestPrices(assetRatioService,
+                    toRequest.subList(
+                            start, Math.min(start + MAX_SYMBOLS_PER_REQUEST, toRequest.size())));
         }
 
         pricesMultiResponse.setWhenAllCompletedAction(() -> {
-            for (AsyncUtils.GetPriceResponseContext priceContext : pricesContexts) {
-                if (!priceContext.success || priceContext.prices.length != 1) {
-                    continue;
+            HashMap<String, Double> assetsPrices = new HashMap<String, Double>();
+            for (String symbol : symbols) {
+                CachedPrice cached = sPriceCache.get(symbol);
+                if (cached != null) {
+                    assetsPrices.put(symbol, cached.mPrice);
                 }
+            }
+            callback.call(assetsPrices);
+        }, AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS);
+    }
+
+    private static void requestPrices(AssetRatioService assetRatioService, List<String> symbols) {
+        String[] fromAssets = symbols.toArray(new String[0]);
+        String[] toAssets = new String[] {USD};
+        assetRatioService.getPrice(
+                fromAssets, toAssets, AssetPriceTimeframe.LIVE, (success, prices) -> {
+                    long fetchedAtMs = SystemClock.elapsedRealtime();
+                    if (success && prices != null) {
+                        for (AssetPrice thisPrice : prices) {
+                            if (thisPrice.fromAsset == null
+                                    || (thisPrice.toAsset != null
+                                            && !USD.equalsIgnoreCase(thisPrice.toAsset))) {
+                                continue;
+                            }
+                            final String toConvert =
+                                    thisPrice.price != null ? thisPrice.price : "0.0";
+                            try {
+                                sPriceCache.put(
+                                        thisPrice.fromAsset.toLowerCase(Locale.getDefault()),
+                                        new CachedPrice(
+                                                Double.parseDouble(toConvert), fetchedAtMs));
+                            } catch (NumberFormatException ex) {
+                                Log.e(TAG,
+                                        "Cannot parse " + toConvert + ", Token: "
+                                                + String.valueOf(thisPrice.fromAsset) + ", " + ex);
+                            }
+                        }
+                    }
+                    for (String symbol : symbols) {
+                        sInFlight.complete(assetRatioService, symbol, null);
+                    }
+                });
+    }
+
+    /**
+     * Fetches the USD price history of the assets for {@code timeframe}. Histories fetched within
+     * the TTL are served from the cache. The callback gets the histories by asset ratio id, and
+     * failed or empty histories are left out. It runs after {@link
+     * AsyncUtils#DEFAULT_RESPONSES_TIMEOUT_MS} at the latest.
+     *
+     * @return the handler waiting for the responses, to cancel the callback.
+     */
+    public static AsyncUtils.MultiResponseHandler fetchPriceHistories(
+            AssetRatioService assetRatioService, List<BlockchainToken> assets, int timeframe,
+            Callbacks.Callback1<Map<String, PriceHistory>> callback) {
+        long now = SystemClock.elapsedRealtime();
+        long ttl = timeframe == AssetPriceTimeframe.LIVE ? LIVE_HISTORY_TTL_MS
+                                                         : DEFAULT_HISTORY_TTL_MS;
+        LinkedHashSet<String> assetRatioIds = new LinkedHashSet<>();
+        for (BlockchainToken asset : assets) {
+            assetRatioIds.add(AssetUtils.assetRatioId(asset));
+        }
+
+        // Histories without any cached copy, the caller has to wait for them.
+        Set<String> missing = new HashSet<>();
+        for (String assetRatioId : assetRatioIds) {
+            if (!sHistoryCache.containsKey(getHistoryKey(assetRatioId, timeframe))) {
+                missing.add(assetRatioId);
+            }
+        }
+
+        AsyncUtils.MultiResponseHandler historyMultiResponse =
+                new AsyncUtils.MultiResponseHandler(missing.size());
+        for (String assetRatioId : assetRatioIds) {
+            String key = getHistoryKey(assetRatioId, timeframe);
+            CachedPriceHistory cached = sHistoryCache.get(key);
+            if (cached != null && now - cached.mFetchedAtMs <= ttl) continue;
+            Callbacks.Callback1<Void> waiter = missing.contains(assetRatioId)
+                    ? unused -> historyMultiResponse.singleResponseComplete.run()
+                    : null;
+            if (sHistoryInFlight.add(assetRatioService, key, waiter)) {
+                requestPriceHistory(assetRatioService, assetRatioId, timeframe);
+            }
+        }
 
-                Double usdPerToken = 0.0d;
-                final AssetPrice thisPrice = priceContext.prices[0];
-                final String toConvert = thisPrice.price != null ? thisPrice.price : "0.0";
-                try {
-                    usdPerToken = Double.parseDouble(toConvert);
-                } catch (NumberFormatException ex) {
-                    Log.e(TAG,
-                            "Cannot parse " + toConvert + ", Token: "
-                                    + String.valueOf(thisPrice.fromAsset) + ", " + ex);
-                    continue;
+        historyMultiResponse.setWhenAllCompletedAction(() -> {
+            Map<String, PriceHistory> priceHistories = new HashMap<>();
+            for (String assetRatioId : assetRatioIds) {
+                CachedPriceHistory cached =
+                        sHistoryCache.get(getHistoryKey(assetRatioId, timeframe));
+                if (cached != null) {
+                    priceHistories.put(assetRatioId, cached.mPriceHistory);
                 }
-                assetsPrices.put(thisPrice.fromAsset.toLowerCase(Locale.getDefault()), usdPerToken);
             }
-            callback.call(assetsPrices);
-        });
+            callback.call(priceHistories);
+        }, AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS);
+        return historyMultiResponse;
+    }
+
+    private static void requestPriceHistory(
+            AssetRatioService assetRatioService, String assetRatioId, int timeframe) {
+        String key = getHistoryKey(assetRatioId, timeframe);
+        assetRatioService.getPriceHistory(
+                assetRatioId, USD, timeframe, (success, timePrices) -> {
+                    if (success && timePrices != null && timePrices.length > 0) {
+                        double[] prices = new double[timePrices.length];
+                        for (int i = 0; i < timePrices.length; i++) {
+                            try {
+                                prices[i] = Double.parseDouble(timePrices[i].price);
+                            } catch (NullPointerException | NumberFormatException ex) {
+                                Log.e(TAG, "Cannot parse history price of " + assetRatioId);
+                            }
+                        }
+                        sHistoryCache.put(key,
+                                new CachedPriceHistory(new PriceHistory(timePrices, prices),
+                                        SystemClock.elapsedRealtime()));
+                    }
+                    sHistoryInFlight.complete(assetRatioService, key, null);
+                });
+    }
+
+    private static String getHistoryKey(String assetRatioId, int timeframe) {
+        return timeframe + "|" + assetRatioId;
     }
 }
@@ -7,9 +7,13 @@ package org.chromium.chrome.browser.crypto_wallet.util;
 
 import static org.chromium.chrome.browser.crypto_wallet.util.Utils.warnWhenError;
 
+import android.os.SystemClock;
+
+import org.chromium.base.Log;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.TaskTraits;
 import org.chromium.brave_wallet.mojom.AssetPrice;
 import org.chromium.brave_wallet.mojom.AssetRatioService;
-import org.chromium.brave_wallet.mojom.AssetTimePrice;
 import org.chromium.brave_wallet.mojom.BlockchainRegistry;
 import org.chromium.brave_wallet.mojom.BlockchainToken;
 import org.chromium.brave_wallet.mojom.JsonRpcService;
@@ -25,21 +29,32 @@ import java.util.HashSet;
 public class AsyncUtils {
     private final static String TAG = "AsyncUtils";
 
+    // Used for fan-outs whose completion action can handle missing responses.
+    public static final long DEFAULT_RESPONSES_TIMEOUT_MS = 15 * 1000;
+
     // Helper to track multiple wallet services responses
     public static class MultiResponseHandler {
+        // Fan-outs slower than this are logged.
+        private static final long SLOW_RESPONSES_MS = 3 * 1000;
+
         private Runnable mWhenAllCompletedRunnable;
         private int mTotalElements;
         private int mCurrentElements;
+        private boolean mCompleted;
+        private boolean mCancelled;
+        private boolean mTimedOut;
+        private final long mStartTimeMs;
+        private long mSlowestResponseMs;
         private Object mLock = new Object();
 
         public MultiResponseHandler(int totalElements) {
             synchronized (mLock) {
                 mCurrentElements = 0;
                 mTotalElements = totalElements;
+                mStartTimeMs = SystemClock.elapsedRealtime();
             }
         }
 
-        // TODO(AlexeyBarabash): add runnable to handle the timeout case
         public void setWhenAllCompletedAction(Runnable whenAllCompletedRunnable) {
             synchronized (mLock) {
                 assert this.mWhenAllCompletedRunnable == null;
@@ -48,22 +63,72 @@ public class AsyncUtils {
             }
         }
 
+        /**
+         * Same as {@link #setWhenAllCompletedAction(Runnable)}, but runs the action with the
+         * responses received so far when they are not all in after {@code timeoutMs}. The action
+         * must handle contexts that never got a response; {@link #isTimedOut()} tells them apart.
+         */
+        public void setWhenAllCompletedAction(Runnable whenAllCompletedRunnable, long timeoutMs) {
+            setWhenAllCompletedAction(whenAllCompletedRunnable);
+            synchronized (mLock) {
+                if (mCompleted) return;
+            }
+            PostTask.postDelayedTask(TaskTraits.UI_DEFAULT, this::onTimeout, timeoutMs);
+        }
+
+        /** Drops the completed action, e.g. when the screen waiting for it is destroyed. */
+        public void cancel() {
+            synchronized (mLock) {
+                mCancelled = true;
+                mWhenAllCompletedRunnable = null;
+            }
+        }
+
+        /** @return whether the completed action ran before all responses came in. */
+        public boolean isTimedOut() {
+            synchronized (mLock) {
+                return mTimedOut;
+            }
+        }
+
         public Runnable singleResponseComplete = new Runnable() {
             @Override
             public void run() {
                 synchronized (mLock) {
                     mCurrentElements++;
                     assert mCurrentElements <= mTotalElements;
+                    mSlowestResponseMs = Math.max(
+                            mSlowestResponseMs, SystemClock.elapsedRealtime() - mStartTimeMs);
                     checkAndRunCompletedAction();
                 }
             }
         };
 
+        private void onTimeout() {
+            synchronized (mLock) {
+                if (mCompleted || mCancelled || mWhenAllCompletedRunnable == null) return;
+                mTimedOut = true;
+                Log.w(TAG, "Timed out with %d of %d responses", mCurrentElements, mTotalElements);
+                runCompletedAction();
+            }
+        }
+
         private void checkAndRunCompletedAction() {
-            if (mCurrentElements == mTotalElements && mWhenAllCompletedRunnable != null) {
-                mWhenAllCompletedRunnable.run();
+            if (mCurrentElements == mTotalElements && mWhenAllCompletedRunnable != null
+                    && !mCompleted && !mCancelled) {
+                if (mSlowestResponseMs > SLOW_RESPONSES_MS) {
+                    Log.w(TAG, "%d responses took %d ms", mTotalElements, mSlowestResponseMs);
+                }
+                runCompletedAction();
             }
         }
+
+        private void runCompletedAction() {
+            mCompleted = true;
+            Runnable whenAllCompletedRunnable = mWhenAllCompletedRunnable;
+            mWhenAllCompletedRunnable = null;
+            whenAllCompletedRunnable.run();
+        }
     }
 
     public static class SingleResponseBaseContext {
@@ -212,24 +277,6 @@ public class AsyncUtils {
         }
     }
 
-    public static class GetPriceHistoryResponseContext extends SingleResponseBaseContext
-            implements AssetRatioService.GetPriceHistory_Response {
-        public Boolean success;
-        public AssetTimePrice[] timePrices;
-        public BlockchainToken userAsset;
-
-        public GetPriceHistoryResponseContext(Runnable responseCompleteCallback) {
-            super(responseCompleteCallback);
-        }
-
-        @Override
-        public void call(Boolean success, AssetTimePrice[] timePrices) {
-            this.success = success;
-            this.timePrices = timePrices;
-            super.fireResponseCompleteCallback();
-        }
-    }
-
     public static class GetNetworkResponseContext
             extends SingleResponseBaseContext implements JsonRpcService.GetAllNetworks_Response {
         public NetworkInfo[] networkInfos;
@@ -261,16 +308,16 @@ public class AsyncUtils {
     }
 
     public static class GetNativeAssetsBalancesResponseContext extends SingleResponseBaseContext
-            implements Callbacks.Callback2<Integer, HashMap<String, Double>> {
+            implements Callbacks.Callback2<Integer, HashMap<String, TokenAmount>> {
         public int coinType;
-        public HashMap<String, Double> nativeAssetsBalances;
+        public HashMap<String, TokenAmount> nativeAssetsBalances;
 
         public GetNativeAssetsBalancesResponseContext(Runnable responseCompleteCallback) {
             super(responseCompleteCallback);
         }
 
         @Override
-        public void call(Integer coinType, HashMap<String, Double> nativeAssetsBalances) {
+        public void call(Integer coinType, HashMap<String, TokenAmount> nativeAssetsBalances) {
             this.coinType = coinType;
             this.nativeAssetsBalances = nativeAssetsBalances;
             super.fireResponseCompleteCallback();
@@ -278,8 +325,9 @@ public class AsyncUtils {
     }
 
     public static class GetBlockchainTokensBalancesResponseContext extends SingleResponseBaseContext
-            implements Callbacks.Callback2<Integer, HashMap<String, HashMap<String, Double>>> {
-        public HashMap<String, HashMap<String, Double>> blockchainTokensBalances;
+            implements Callbacks.Callback2<Integer,
+                    HashMap<String, HashMap<String, TokenAmount>>> {
+        public HashMap<String, HashMap<String, TokenAmount>> blockchainTokensBalances;
         public int coinType;
 
         public GetBlockchainTokensBalancesResponseContext(Runnable responseCompleteCallback) {
@@ -288,7 +336,7 @@ public class AsyncUtils {
 
         @Override
         public void call(Integer coinType,
-                HashMap<String, HashMap<String, Double>> blockchainTokensBalances) {
+                HashMap<String, HashMap<String, TokenAmount>> blockchainTokensBalances) {
             this.coinType = coinType;
             this.blockchainTokensBalances = blockchainTokensBalances;
             super.fireResponseCompleteCallback();
@@ -5,6 +5,11 @@
 
 package org.chromium.chrome.browser.crypto_wallet.util;
 
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
 import org.chromium.brave_wallet.mojom.AccountInfo;
 import org.chromium.brave_wallet.mojom.BlockchainRegistry;
 import org.chromium.brave_wallet.mojom.BlockchainToken;
@@ -33,6 +38,7 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -40,14 +46,60 @@ import java.util.Map;
 public class BalanceHelper {
     private static String TAG = "BalanceHelper";
 
+    // A few blocks on the slowest supported chain. Confirmed transactions invalidate the chain's
+    // balances sooner, see invalidateTokenBalances.
+    private static final long TOKEN_BALANCE_TTL_MS = 15 * 1000;
+
+    @VisibleForTesting
+    static class TokenBalance {
+        final String mBalance;
+        final Integer mDecimals;
+        final Integer mError;
+        final long mFetchedAtMs;
+
+        TokenBalance(String balance, Integer decimals, Integer error, long fetchedAtMs) {
+            mBalance = balance;
+            mDecimals = decimals;
+            mError = error;
+            mFetchedAtMs = fetchedAtMs;
+        }
+    }
+
+    // Fetches one token balance and hands the result to everyone waiting for it.
+    private static class TokenBalanceFetch implements Runnable {
+        final JsonRpcService mJsonRpcService;
+        final String mKey;
+        GetBalanceResponseBaseContext mContext;
+
+        TokenBalanceFetch(JsonRpcService jsonRpcService, String key) {
+            mJsonRpcService = jsonRpcService;
+            mKey = key;
+        }
+
+        @Override
+        public void run() {
+            onTokenBalanceFetched(mJsonRpcService, mKey,
+                    new TokenBalance(mContext.balance, mContext.decimals, mContext.error,
+                            SystemClock.elapsedRealtime()));
+        }
+    }
+
+    // Successful token balances by chain, account and token. Only used on the UI thread, where the
+    // mojo responses are delivered.
+    private static final Map<String, TokenBalance> sTokenBalanceCache = new HashMap<>();
+    // In-flight token balances, by the same key.
+    private static final InFlightRequests<TokenBalance> sTokenBalanceInFlight =
+            new InFlightRequests<>();
+
     /**
-     * Get assets balances for all accounts on selected network.
+     * Get assets balances for all accounts on selected network. Balances are kept in fixed point,
+     * see {@link #toBalances} to display them.
      */
     public static void getNativeAssetsBalances(JsonRpcService jsonRpcService,
             NetworkInfo selectedNetwork, AccountInfo[] accountInfos,
-            Callbacks.Callback2<Integer, HashMap<String, Double>> callback) {
+            Callbacks.Callback2<Integer, HashMap<String, TokenAmount>> callback) {
         if (jsonRpcService == null) return;
-        HashMap<String, Double> nativeAssetsBalances = new HashMap<String, Double>();
+        HashMap<String, TokenAmount> nativeAssetsBalances = new HashMap<String, TokenAmount>();
 
         MultiResponseHandler balancesMultiResponse = new MultiResponseHandler(accountInfos.length);
         ArrayList<GetBalanceResponseBaseContext> contexts =
@@ -77,28 +129,30 @@ public class BalanceHelper {
         balancesMultiResponse.setWhenAllCompletedAction(() -> {
             final int networkDecimals = selectedNetwork.decimals;
             for (GetBalanceResponseBaseContext context : contexts) {
-                Double nativeAssetBalance = (context.error == ProviderError.SUCCESS)
-                        ? Utils.getBalanceForCoinType(
+                TokenAmount nativeAssetBalance =
+                        (context.error != null && context.error == ProviderError.SUCCESS)
+                        ? Utils.getAmountForCoinType(
                                 selectedNetwork.coin, networkDecimals, context.balance)
-                        : 0.0d;
+                        : TokenAmount.ZERO;
                 nativeAssetsBalances.put(context.accountAddress, nativeAssetBalance);
             }
 
             callback.call(selectedNetwork.coin, nativeAssetsBalances);
-        });
+        }, AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS);
     }
 
     /**
      * Get assets balances for a list of tokens on all accounts.
      * Only collect balances for current network. Return a nested map that is grouped by accounts
-     * first and then tokens. Native tokens (ETH, SOL, FIL) will be excluded.
+     * first and then tokens. Native tokens (ETH, SOL, FIL) will be excluded. Balances are kept in
+     * fixed point, see {@link #toTokensBalances} to display them.
      */
     public static void getBlockchainTokensBalances(JsonRpcService jsonRpcService,
             NetworkInfo selectedNetwork, AccountInfo[] accountInfos, BlockchainToken[] tokens,
-            Callbacks.Callback2<Integer, HashMap<String, HashMap<String, Double>>> callback) {
+            Callbacks.Callback2<Integer, HashMap<String, HashMap<String, TokenAmount>>> callback) {
         if (jsonRpcService == null) return;
-        HashMap<String, HashMap<String, Double>> blockchainTokensBalances =
-                new HashMap<String, HashMap<String, Double>>();
+        HashMap<String, HashMap<String, TokenAmount>> blockchainTokensBalances =
+                new HashMap<String, HashMap<String, TokenAmount>>();
         // Remove native tokens
         List<BlockchainToken> tokensList = new ArrayList<BlockchainToken>();
         for (BlockchainToken token : tokens) {
@@ -116,39 +170,30 @@ public class BalanceHelper {
             if (accountInfo.accountId.coin != selectedNetwork.coin) continue;
 
             for (BlockchainToken token : tokens) {
-                if (accountInfo.accountId.coin == CoinType.ETH) {
-                    if (selectedNetwork.chainId.equals(token.chainId)) {
-                        if (token.isErc721) {
-                            GetErc721TokenBalanceResponseContext context =
-                                    addBalanceResponseContext(contexts,
-                                            new GetErc721TokenBalanceResponseContext(
-                                                    balancesMultiResponse.singleResponseComplete),
-                                            accountInfo.address, token);
-                            jsonRpcService.getErc721TokenBalance(token.contractAddress,
-                                    token.tokenId != null ? token.tokenId : "", accountInfo.address,
-                                    token.chainId, context);
-                        } else {
-                            GetErc20TokenBalanceResponseContext context =
-                                    addBalanceResponseContext(contexts,
-                                            new GetErc20TokenBalanceResponseContext(
-                                                    balancesMultiResponse.singleResponseComplete),
-                                            accountInfo.address, token);
-                            jsonRpcService.getErc20TokenBalance(token.contractAddress,
-                                    accountInfo.address, token.chainId, context);
-                        }
-                    }
-                } else if (accountInfo.accountId.coin == CoinType.SOL) {
-                    if (selectedNetwork.chainId.equals(token.chainId)) {
-                        GetSplTokenAccountBalanceResponseContext context =
-                                addBalanceResponseContext(contexts,
-                                        new GetSplTokenAccountBalanceResponseContext(
-                                                balancesMultiResponse.singleResponseComplete),
-                                        accountInfo.address, token);
-                        jsonRpcService.getSplTokenAccountBalance(
-                                accountInfo.address, token.contractAddress, token.chainId, context);
-                    }
-                } else {
+                if (!selectedNetwork.chainId.equals(token.chainId)) continue;
+                if (accountInfo.accountId.coin != CoinType.ETH
+                        && accountInfo.accountId.coin != CoinType.SOL) {
                     // TODO: FIL placeholder
+                    continue;
+                }
+                GetBalanceResponseBaseContext context = addBalanceResponseContext(contexts,
+                        new GetBalanceResponseBaseContext(
+                                balancesMultiResponse.singleResponseComplete),
+                        accountInfo.address, token);
+                Callbacks.Callback1<TokenBalance> onBalance = balance -> {
+                    if (balance == null) {
+                        // The fetch was given up on, it's shown like a failed one.
+                        context.callSplBase(null, null, null, null, null);
+                        return;
+                    }
+                    context.callSplBase(
+                            balance.mBalance, balance.mDecimals, null, balance.mError, null);
+                };
+
+                String key = getTokenBalanceKey(token.chainId, accountInfo.address, token);
+                if (getTokenBalance(jsonRpcService, key, onBalance)) {
+                    fetchTokenBalance(jsonRpcService, accountInfo, token,
+                            new TokenBalanceFetch(jsonRpcService, key));
                 }
             }
         }
@@ -158,20 +203,22 @@ public class BalanceHelper {
                 final String tokenKey = Utils.tokenToString(context.userAsset);
                 final int decimals = (context.userAsset.decimals != 0 || context.userAsset.isErc721)
                         ? context.userAsset.decimals
-                        : (context.userAsset.coin == CoinType.SOL ? context.decimals
-                                                                  : selectedNetwork.decimals);
-                Double tokenBalance =
-                        (context.error == ProviderError.SUCCESS && context.balance != null
+                        : (context.userAsset.coin == CoinType.SOL && context.decimals != null
+                                        ? context.decimals
+                                        : selectedNetwork.decimals);
+                TokenAmount tokenBalance =
+                        (context.error != null && context.error == ProviderError.SUCCESS
+                                && context.balance != null
                                 && !context.balance.isEmpty())
-                        ? Utils.getBalanceForCoinType(
+                        ? Utils.getAmountForCoinType(
                                 selectedNetwork.coin, decimals, context.balance)
-                        : 0.0d;
+                        : TokenAmount.ZERO;
                 if (blockchainTokensBalances.containsKey(context.accountAddress)) {
                     blockchainTokensBalances.get(context.accountAddress)
                             .put(tokenKey, tokenBalance);
                 } else {
-                    HashMap<String, Double> perAccountBlockchainTokensBalances =
-                            new HashMap<String, Double>();
+                    HashMap<String, TokenAmount> perAccountBlockchainTokensBalances =
+                            new HashMap<String, TokenAmount>();
                     perAccountBlockchainTokensBalances.put(tokenKey, tokenBalance);
                     blockchainTokensBalances.put(
                             context.accountAddress, perAccountBlockchainTokensBalances);
@@ -179,7 +226,111 @@ public class BalanceHelper {
             }
 
             callback.call(selectedNetwork.coin, blockchainTokensBalances);
-        });
+        }, AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS);
+    }
+
+    /**
+     * @return the balances by account of {@link #getNativeAssetsBalances} in whole tokens, see
+     *         {@link TokenAmount#toDouble}.
+     */
+    public static HashMap<String, Double> toBalances(HashMap<String, TokenAmount> amounts) {
+        if (amounts == null) return null;
+        HashMap<String, Double> balances = new HashMap<String, Double>();
+        for (Map.Entry<String, TokenAmount> entry : amounts.entrySet()) {
+            balances.put(entry.getKey(), entry.getValue().toDouble());
+        }
+        return balances;
+    }
+
+    /**
+     * @return the balances by account and token of {@link #getBlockchainTokensBalances} in whole
+     *         tokens, see {@link TokenAmount#toDouble}.
+     */
+    public static HashMap<String, HashMap<String, Double>> toTokensBalances(
+            HashMap<String, HashMap<String, TokenAmount>> amounts) {
+        if (amounts == null) return null;
+        HashMap<String, HashMap<String, Double>> balances =
+                new HashMap<String, HashMap<String, Double>>();
+        for (Map.Entry<String, HashMap<String, TokenAmount>> entry : amounts.entrySet()) {
+            balances.put(entry.getKey(), toBalances(entry.getValue()));
+        }
+        return balances;
+    }
+
+    /**
+     * Drops the cached token balances on {@code chainId}, e.g. after a transaction on it was
+     * confirmed.
+     */
+    public static void invalidateTokenBalances(String chainId) {
+        String prefix = chainId + "|";
+        Iterator<String> keys = sTokenBalanceCache.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keys.next().startsWith(prefix)) keys.remove();
+        }
+    }
+
+    /** Drops all cached token balances. */
+    public static void invalidateTokenBalances() {
+        sTokenBalanceCache.clear();
+    }
+
+    private static void fetchTokenBalance(JsonRpcService jsonRpcService, AccountInfo accountInfo,
+            BlockchainToken token, TokenBalanceFetch fetch) {
+        if (accountInfo.accountId.coin == CoinType.SOL) {
+            GetSplTokenAccountBalanceResponseContext context =
+                    new GetSplTokenAccountBalanceResponseContext(fetch);
+            fetch.mContext = context;
+            jsonRpcService.getSplTokenAccountBalance(
+                    accountInfo.address, token.contractAddress, token.chainId, context);
+        } else if (token.isErc721) {
+            GetErc721TokenBalanceResponseContext context =
+                    new GetErc721TokenBalanceResponseContext(fetch);
+            fetch.mContext = context;
+            jsonRpcService.getErc721TokenBalance(token.contractAddress,
+                    token.tokenId != null ? token.tokenId : "", accountInfo.address,
+                    token.chainId, context);
+        } else {
+            GetErc20TokenBalanceResponseContext context =
+                    new GetErc20TokenBalanceResponseContext(fetch);
+            fetch.mContext = context;
+            jsonRpcService.getErc20TokenBalance(
+                    token.contractAddress, accountInfo.address, token.chainId, context);
+        }
+    }
+
+    /**
+     * Calls {@code onBalance} with the cached balance for {@code key}, or adds it to the waiters
+     * of the fetch pending on {@code jsonRpcService}.
+     *
+     * @return true if no fetch is pending and the caller has to start it, then pass the result to
+     *         {@link #onTokenBalanceFetched}.
+     */
+    @VisibleForTesting
+    static boolean getTokenBalance(Object jsonRpcService, String key,
+            Callbacks.Callback1<TokenBalance> onBalance) {
+        TokenBalance cached = sTokenBalanceCache.get(key);
+        if (cached != null
+                && SystemClock.elapsedRealtime() - cached.mFetchedAtMs <= TOKEN_BALANCE_TTL_MS) {
+            onBalance.call(cached);
+            return false;
+        }
+        return sTokenBalanceInFlight.add(jsonRpcService, key, onBalance);
+    }
+
+    @VisibleForTesting
+    static void onTokenBalanceFetched(
+            Object jsonRpcService, String key, @Nullable TokenBalance balance) {
+        if (balance != null && balance.mError != null && balance.mError == ProviderError.SUCCESS) {
+            sTokenBalanceCache.put(key, balance);
+        }
+        sTokenBalanceInFlight.complete(jsonRpcService, key, balance);
+    }
+
+    @VisibleForTesting
+    static String getTokenBalanceKey(
+            String chainId, String accountAddress, BlockchainToken token) {
+        return chainId + "|" + accountAddress.toLowerCase(Locale.ENGLISH) + "|"
+                + Utils.tokenToString(token);
     }
 
     public static void getP3ABalances(WeakReference<BraveWalletBaseActivity> activityRef,
@@ -318,16 +469,17 @@ public class BalanceHelper {
             GetBlockchainTokensBalancesResponseContext[] blockchainTokensBalancesResponses,
             HashMap<Integer, HashSet<String>> activeAddresses) {
         for (GetNativeAssetsBalancesResponseContext ctx : nativeAssetsBalancesResponses) {
-            for (Map.Entry<String, Double> nativeEntry : ctx.nativeAssetsBalances.entrySet()) {
-                if (nativeEntry.getValue() > 0.0d)
+            for (Map.Entry<String, TokenAmount> nativeEntry :
+                    ctx.nativeAssetsBalances.entrySet()) {
+                if (nativeEntry.getValue().toDouble() > 0.0d)
                     activeAddresses.get(ctx.coinType).add(nativeEntry.getKey());
             }
         }
         for (GetBlockchainTokensBalancesResponseContext ctx : blockchainTokensBalancesResponses) {
-            for (Map.Entry<String, HashMap<String, Double>> accEntry :
+            for (Map.Entry<String, HashMap<String, TokenAmount>> accEntry :
                     ctx.blockchainTokensBalances.entrySet()) {
-                for (Map.Entry<String, Double> tokenEntry : accEntry.getValue().entrySet()) {
-                    if (tokenEntry.getValue() > 0.0d)
+                for (Map.Entry<String, TokenAmount> tokenEntry : accEntry.getValue().entrySet()) {
+                    if (tokenEntry.getValue().toDouble() > 0.0d)
                         activeAddresses.get(ctx.coinType).add(accEntry.getKey());
                 }
             }
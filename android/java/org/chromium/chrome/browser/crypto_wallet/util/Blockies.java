@@ -8,24 +8,76 @@ package org.chromium.chrome.browser.crypto_wallet.util;
 import android.annotation.SuppressLint;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
-import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffXfermode;
 import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.GradientDrawable;
+import android.util.LruCache;
 
-import java.util.Arrays;
 import java.util.Locale;
 
+/**
+ * Renders blockies identicons. Every call seeds its own PRNG, so icons can be rendered from any
+ * number of threads, and rendered icons are memoized by address, size and shape.
+ */
 public class Blockies {
     private static final int SIZE = 8;
     private static final int SCALE = 16;
-    private static long[] randSeed = new long[4];
-    private static String[] colors = {"#5B5C63", "#151E9A", "#2197F9", "#1FC3DC", "#086582",
-            "#67D4B4", "#AFCE57", "#F0CB44", "#F28A29", "#FC798F", "#C1226E", "#FAB5EE", "#9677EE",
-            "#5433B0"};
+    private static final int BLUR_RADIUS = 40;
+    private static final int CACHE_SIZE_BYTES = 8 * 1024 * 1024;
+    private static final int[] COLORS = {0xFF5B5C63, 0xFF151E9A, 0xFF2197F9, 0xFF1FC3DC,
+            0xFF086582, 0xFF67D4B4, 0xFFAFCE57, 0xFFF0CB44, 0xFFF28A29, 0xFFFC798F, 0xFFC1226E,
+            0xFFFAB5EE, 0xFF9677EE, 0xFF5433B0};
+
+    // Icons are immutable once cached, so they can be shared between views.
+    private static final LruCache<String, Bitmap> sIconCache =
+            new LruCache<String, Bitmap>(CACHE_SIZE_BYTES) {
+                @Override
+                protected int sizeOf(String key, Bitmap bitmap) {
+                    return bitmap.getByteCount();
+                }
+            };
+
+    /** PRNG compatible with the reference blockies implementation, seeded per icon. */
+    private static class SeededRandom {
+        private final long[] mRandSeed = new long[4];
+
+        @SuppressLint("SelfAssignment")
+        SeededRandom(String seed) {
+            for (int i = 0; i < seed.length(); i++) {
+                long test = mRandSeed[i % 4] << 5;
+                if (test > Integer.MAX_VALUE << 1 || test < Integer.MIN_VALUE << 1) {
+                    test = (int) test;
+                }
+
+                long test2 = test - mRandSeed[i % 4];
+                mRandSeed[i % 4] = (test2 + Character.codePointAt(seed, i));
+            }
+
+            for (int i = 0; i < mRandSeed.length; i++) {
+                mRandSeed[i] = (int) mRandSeed[i];
+            }
+        }
+
+        double rand() {
+            int t = (int) (mRandSeed[0] ^ (mRandSeed[0] << 11));
+            mRandSeed[0] = mRandSeed[1];
+            mRandSeed[1] = mRandSeed[2];
+            mRandSeed[2] = mRandSeed[3];
+            mRandSeed[3] = (mRandSeed[3] ^ (mRandSeed[3] >> 19) ^ t ^ (t >> 8));
+
+            double num = (mRandSeed[3] >>> 0);
+            double den = ((1 << 31) >>> 0);
+
+            return Math.abs(num / den);
+        }
+
+        int createColor() {
+            return COLORS[(int) Math.floor(rand() * 100) % COLORS.length];
+        }
+    }
 
     public static Bitmap createIcon(String address, boolean lowerCase, boolean circular) {
         if (lowerCase) {
@@ -40,149 +92,77 @@ public class Blockies {
             address = address.toLowerCase(Locale.getDefault());
         }
 
-        seedrand(address);
-        String color = createColor();
-        createColor(); // skip dark color
-        String spotColor = createColor(); // use 3rd vibrant color
-        GradientDrawable gd = new GradientDrawable(GradientDrawable.Orientation.TOP_BOTTOM,
-                new int[] {Color.parseColor(spotColor), Color.parseColor(color)});
+        SeededRandom random = new SeededRandom(address);
+        int color = random.createColor();
+        random.createColor(); // skip dark color
+        int spotColor = random.createColor(); // use 3rd vibrant color
+        GradientDrawable gd = new GradientDrawable(
+                GradientDrawable.Orientation.TOP_BOTTOM, new int[] {spotColor, color});
         gd.setCornerRadius(0f);
         return gd;
     }
 
     private static Bitmap createIcon(String address, boolean circular) {
-        seedrand(address);
+        String key = address + "|" + (SIZE * SCALE) + "|" + circular;
+        Bitmap icon = sIconCache.get(key);
+        if (icon != null) {
+            return icon;
+        }
 
-        String color = createColor();
-        String bgColor = createColor();
-        String spotColor = createColor();
+        SeededRandom random = new SeededRandom(address);
+        int color = random.createColor();
+        int bgColor = random.createColor();
+        int spotColor = random.createColor();
 
-        double[] imgdata = createImageData();
+        int[] imgdata = createImageData(random);
 
-        return createCanvas(imgdata, color, bgColor, spotColor, SCALE, circular);
+        icon = createCanvas(imgdata, color, bgColor, spotColor, SCALE, circular);
+        sIconCache.put(key, icon);
+        return icon;
     }
 
-    private static Bitmap createCanvas(double[] imgData, String color, String bgcolor,
-            String spotcolor, int scale, boolean circular) {
-        int width = (int) Math.sqrt(imgData.length);
-
-        int w = width * scale;
-        int h = width * scale;
-
-        Bitmap.Config conf = Bitmap.Config.ARGB_8888;
-        Bitmap bmp = Bitmap.createBitmap(w, h, conf);
-        Canvas canvas = new Canvas(bmp);
-
-        int background = Color.parseColor(bgcolor);
-
-        Paint paint = new Paint();
-        paint.setStyle(Paint.Style.FILL);
-        paint.setColor(background);
-        canvas.drawRect(0, 0, w, h, paint);
-
-        int main = Color.parseColor(color);
-        int scolor = Color.parseColor(spotcolor);
-
-        for (int i = 0; i < imgData.length; i++) {
-            int row = (int) Math.floor(i / width);
-            int col = i % width;
-            paint = new Paint();
-
-            paint.setColor((imgData[i] == 1.0d) ? main : scolor);
-
-            if (imgData[i] > 0d) {
-                canvas.drawRect(col * scale, row * scale, (col * scale) + scale,
-                        (row * scale) + scale, paint);
+    private static Bitmap createCanvas(
+            int[] imgData, int color, int bgcolor, int spotcolor, int scale, boolean circular) {
+        int w = SIZE * scale;
+        int h = SIZE * scale;
+
+        // Fill all cells in a single pass over the pixels, 1 is the main color, 2 the spot color
+        // and 0 leaves the background.
+        int[] cellColors = {bgcolor, color, spotcolor};
+        int[] pixels = new int[w * h];
+        for (int y = 0; y < h; y++) {
+            int rowOffset = (y / scale) * SIZE;
+            for (int x = 0; x < w; x++) {
+                pixels[y * w + x] = cellColors[imgData[rowOffset + x / scale]];
             }
         }
-
-        return blur(getCroppedBitmap(bmp, circular), 1f, 40);
+        Bitmap bmp = Bitmap.createBitmap(pixels, w, h, Bitmap.Config.ARGB_8888);
+
+        Bitmap cropped = getCroppedBitmap(bmp, circular);
+        bmp.recycle();
+        blur(cropped);
+        Bitmap icon = cropped.copy(Bitmap.Config.ARGB_8888, false);
+        cropped.recycle();
+        return icon;
     }
 
-    private static double rand() {
-        int t = (int) (randSeed[0] ^ (randSeed[0] << 11));
-        randSeed[0] = randSeed[1];
-        randSeed[1] = randSeed[2];
-        randSeed[2] = randSeed[3];
-        randSeed[3] = (randSeed[3] ^ (randSeed[3] >> 19) ^ t ^ (t >> 8));
-
-        double num = (randSeed[3] >>> 0);
-        double den = ((1 << 31) >>> 0);
+    private static int[] createImageData(SeededRandom random) {
+        int dataWidth = SIZE / 2;
 
-        return Math.abs(num / den);
-    }
-
-    private static String createColor() {
-        return colors[(int) Math.floor(rand() * 100) % colors.length];
-    }
-
-    private static double[] createImageData() {
-        int width = SIZE;
-        int height = SIZE;
-
-        double dataWidth = Math.ceil(width / 2);
-        double mirrorWidth = width - dataWidth;
-
-        double[] data = new double[SIZE * SIZE];
-        int dataCount = 0;
-        for (int y = 0; y < height; y++) {
-            double[] row = new double[(int) dataWidth];
+        int[] data = new int[SIZE * SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            int rowOffset = y * SIZE;
             for (int x = 0; x < dataWidth; x++) {
-                row[x] = Math.floor(rand() * 2.3d);
+                int value = (int) Math.floor(random.rand() * 2.3d);
+                // Mirror the left half of the row onto the right half.
+                data[rowOffset + x] = value;
+                data[rowOffset + SIZE - 1 - x] = value;
             }
-            double[] r = Arrays.copyOfRange(row, 0, (int) mirrorWidth);
-            r = reverse(r);
-            row = concat(row, r);
-
-            for (int i = 0; i < row.length; i++) {
-                data[dataCount] = row[i];
-                dataCount++;
-            }
-        }
-
-        return data;
-    }
-
-    public static double[] concat(double[] a, double[] b) {
-        int aLen = a.length;
-        int bLen = b.length;
-        double[] c = new double[aLen + bLen];
-        System.arraycopy(a, 0, c, 0, aLen);
-        System.arraycopy(b, 0, c, aLen, bLen);
-
-        return c;
-    }
-
-    private static double[] reverse(double[] data) {
-        for (int i = 0; i < data.length / 2; i++) {
-            double temp = data[i];
-            data[i] = data[data.length - i - 1];
-            data[data.length - i - 1] = temp;
         }
 
         return data;
     }
 
-    @SuppressLint("SelfAssignment")
-    private static void seedrand(String seed) {
-        for (int i = 0; i < randSeed.length; i++) {
-            randSeed[i] = 0;
-        }
-        for (int i = 0; i < seed.length(); i++) {
-            long test = randSeed[i % 4] << 5;
-            if (test > Integer.MAX_VALUE << 1 || test < Integer.MIN_VALUE << 1) {
-                test = (int) test;
-            }
-
-            long test2 = test - randSeed[i % 4];
-            randSeed[i % 4] = (test2 + Character.codePointAt(seed, i));
-        }
-
-        for (int i = 0; i < randSeed.length; i++) {
-            randSeed[i] = (int) randSeed[i];
-        }
-    }
-
     public static Bitmap getCroppedBitmap(Bitmap bitmap, boolean circular) {
         Bitmap output =
                 Bitmap.createBitmap(bitmap.getWidth(), bitmap.getHeight(), Bitmap.Config.ARGB_8888);
@@ -210,17 +190,25 @@ public class Blockies {
         return output;
     }
 
-    private static Bitmap blur(Bitmap sentBitmap, float scale, int radius) {
-        int width = Math.round(sentBitmap.getWidth() * scale);
-        int height = Math.round(sentBitmap.getHeight() * scale);
-        sentBitmap = Bitmap.createScaledBitmap(sentBitmap, width, height, false);
-
-        Bitmap bitmap = sentBitmap.copy(sentBitmap.getConfig(), true);
-
-        if (radius < 1) {
-            return (null);
+    /** Division lookup table of the stack blur, which only depends on the blur radius. */
+    private static class BlurTable {
+        static final int[] DV = createDivisionTable(BLUR_RADIUS);
+
+        private static int[] createDivisionTable(int radius) {
+            int div = radius + radius + 1;
+            int divsum = (div + 1) >> 1;
+            divsum *= divsum;
+            int[] dv = new int[256 * divsum];
+            for (int i = 0; i < 256 * divsum; i++) {
+                dv[i] = (i / divsum);
+            }
+            return dv;
         }
+    }
 
+    /** Applies a stack blur with {@link #BLUR_RADIUS} to a mutable bitmap in place. */
+    private static void blur(Bitmap bitmap) {
+        int radius = BLUR_RADIUS;
         int w = bitmap.getWidth();
         int h = bitmap.getHeight();
 
@@ -247,12 +235,7 @@ public class Blockies {
         int yw;
         int vmin[] = new int[Math.max(w, h)];
 
-        int divsum = (div + 1) >> 1;
-        divsum *= divsum;
-        int dv[] = new int[256 * divsum];
-        for (i = 0; i < 256 * divsum; i++) {
-            dv[i] = (i / divsum);
-        }
+        int[] dv = BlurTable.DV;
 
         yw = yi = 0;
 
@@ -423,7 +406,5 @@ public class Blockies {
         }
 
         bitmap.setPixels(pix, 0, w, 0, 0, w, h);
-
-        return bitmap;
     }
 }
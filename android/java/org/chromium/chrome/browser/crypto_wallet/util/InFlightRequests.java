@@ -0,0 +1,119 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import android.os.SystemClock;
+
+import androidx.annotation.Nullable;
+
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.mojo.bindings.Callbacks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Waiters for pending wallet service requests, so that a request already in flight is joined
+ * instead of being issued again. Requests are tracked per service instance: a closed service
+ * drops the callbacks of its pending requests, so callers using another instance never join
+ * them. A request still pending after {@link AsyncUtils#DEFAULT_RESPONSES_TIMEOUT_MS} is only
+ * given up on when it is requested again: its waiters then get a null result and the caller
+ * issues it again. Waiters must therefore apply their own timeout. Must be used on the UI thread,
+ * where the mojo responses are delivered.
+ *
+ * @param <T> the result passed to the waiters.
+ */
+public class InFlightRequests<T> {
+    private static final String TAG = "InFlightRequests";
+
+    private static class Request<T> {
+        final long mStartedAtMs;
+        final List<Callbacks.Callback1<T>> mWaiters = new ArrayList<>();
+
+        Request(long startedAtMs) {
+            mStartedAtMs = startedAtMs;
+        }
+    }
+
+    // Pending requests by service instance, then by request key. The requests of a closed
+    // service are dropped once the service is collected.
+    private final Map<Object, Map<String, Request<T>>> mRequests = new WeakHashMap<>();
+
+    /**
+     * Adds {@code waiter} to the pending request for {@code key} on {@code service}, if any.
+     *
+     * @param waiter called with the result, or null to only check whether the request is pending.
+     * @return true if no such request is pending, in which case the caller has to issue it and
+     *         call {@link #complete} with its response.
+     */
+    public boolean add(Object service, String key, @Nullable Callbacks.Callback1<T> waiter) {
+        ThreadUtils.assertOnUiThread();
+        Map<String, Request<T>> requests = mRequests.get(service);
+        if (requests == null) {
+            requests = new HashMap<>();
+            mRequests.put(service, requests);
+        }
+        long now = SystemClock.elapsedRealtime();
+        Request<T> request = requests.get(key);
+        if (request != null
+                && now - request.mStartedAtMs > AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS) {
+            Log.w(TAG, "Giving up on request " + key);
+            requests.remove(key);
+            notifyWaiters(request, null);
+            request = null;
+        }
+        boolean issue = request == null;
+        if (issue) {
+            request = new Request<>(now);
+            requests.put(key, request);
+        }
+        if (waiter != null) {
+            request.mWaiters.add(waiter);
+        }
+        return issue;
+    }
+
+    /**
+     * Completes the pending request for {@code key} on {@code service} with {@code result}.
+     *
+     * @return false if the request was not pending anymore, e.g. after {@link #clear}.
+     */
+    public boolean complete(Object service, String key, @Nullable T result) {
+        ThreadUtils.assertOnUiThread();
+        Map<String, Request<T>> requests = mRequests.get(service);
+        if (requests == null) return false;
+        Request<T> request = requests.remove(key);
+        if (requests.isEmpty()) {
+            mRequests.remove(service);
+        }
+        if (request == null) return false;
+        notifyWaiters(request, result);
+        return true;
+    }
+
+    /** Gives up on all pending requests, their waiters get a null result. */
+    public void clear() {
+        ThreadUtils.assertOnUiThread();
+        List<Request<T>> requests = new ArrayList<>();
+        for (Map<String, Request<T>> serviceRequests : mRequests.values()) {
+            requests.addAll(serviceRequests.values());
+        }
+        mRequests.clear();
+        for (Request<T> request : requests) {
+            notifyWaiters(request, null);
+        }
+    }
+
+    private static <T> void notifyWaiters(Request<T> request, @Nullable T result) {
+        for (Callbacks.Callback1<T> waiter : request.mWaiters) {
+            waiter.call(result);
+        }
+    }
+}
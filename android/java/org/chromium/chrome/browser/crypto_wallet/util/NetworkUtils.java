@@ -19,7 +19,9 @@ import org.chromium.url.mojom.Url;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class NetworkUtils {
@@ -108,6 +110,27 @@ public class NetworkUtils {
                 networkInfo -> networkInfo.chainId.equals(chainId) && networkInfo.coin == coin);
     }
 
+    /**
+     * Indexes networks by {@link #getNetworkKey} for repeated lookups. Like
+     * {@link #findNetwork}, the first network with a given chain id and coin wins.
+     * @param networks All networks available.
+     * @return Networks by key.
+     */
+    @NonNull
+    public static Map<String, NetworkInfo> getNetworkLookup(@NonNull List<NetworkInfo> networks) {
+        Map<String, NetworkInfo> networkLookup = new HashMap<>(networks.size() * 2);
+        for (NetworkInfo networkInfo : networks) {
+            networkLookup.putIfAbsent(
+                    getNetworkKey(networkInfo.chainId, networkInfo.coin), networkInfo);
+        }
+        return networkLookup;
+    }
+
+    @NonNull
+    public static String getNetworkKey(@Nullable String chainId, int coin) {
+        return coin + ":" + chainId;
+    }
+
     public static boolean isTestNetwork(String chainId) {
         return WalletConstants.KNOWN_TEST_CHAIN_IDS.contains(chainId);
     }
@@ -0,0 +1,298 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import android.text.TextUtils;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.SequencedTaskRunner;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.brave_wallet.mojom.BlockchainToken;
+import org.chromium.brave_wallet.mojom.CoinType;
+import org.chromium.brave_wallet.mojom.JsonRpcService;
+import org.chromium.brave_wallet.mojom.ProviderError;
+import org.chromium.brave_wallet.mojom.SolanaProviderError;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of NFT metadata keyed by coin, chain id, contract address and token id. Successful
+ * {@code getErc721Metadata} and {@code getSolTokenMetadata} responses are kept in memory and on
+ * disk, so the NFT grid can be shown from the cache right away. Entries older than the TTL are
+ * still returned and refreshed by the caller. Requests for an NFT that is already being fetched
+ * on the same service join the pending request. All methods must be called on the UI thread,
+ * where the mojo responses are delivered.
+ */
+public class NftMetadataCache {
+    private static final String TAG = "NftMetadataCache";
+
+    private static final String CACHE_FILE = "wallet_nft_metadata.json";
+    private static final String KEY_METADATA = "metadata";
+    private static final String KEY_FETCHED_AT = "fetched_at";
+    private static final long METADATA_TTL_MS = 24 * 60 * 60 * 1000L;
+    private static final long SAVE_DELAY_MS = 1000;
+    private static final int MAX_ENTRIES = 1000;
+
+    private static class CachedMetadata {
+        final String mTokenMetadata;
+        final long mFetchedAtMs;
+
+        CachedMetadata(String tokenMetadata, long fetchedAtMs) {
+            mTokenMetadata = tokenMetadata;
+            mFetchedAtMs = fetchedAtMs;
+        }
+    }
+
+    private static class MetadataResponse {
+        final String mTokenMetadata;
+        final Integer mErrorCode;
+        final String mErrorMessage;
+
+        MetadataResponse(String tokenMetadata, Integer errorCode, String errorMessage) {
+            mTokenMetadata = tokenMetadata;
+            mErrorCode = errorCode;
+            mErrorMessage = errorMessage;
+        }
+    }
+
+    // Least recently used entries first.
+    private static final LinkedHashMap<String, CachedMetadata> sCache =
+            new LinkedHashMap<String, CachedMetadata>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedMetadata> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+    // In-flight requests, by cache key.
+    private static final InFlightRequests<MetadataResponse> sInFlight = new InFlightRequests<>();
+    // Writes the disk cache, one save at a time.
+    private static SequencedTaskRunner sSaveTaskRunner;
+    // Callbacks waiting for the disk cache, null when it is not being read.
+    private static List<Runnable> sLoadWaiters;
+    private static boolean sLoaded;
+    private static boolean sSaveScheduled;
+    // Bumped by clear(), so that a disk read started before doesn't bring the entries back.
+    private static int sGeneration;
+
+    /** @return whether the NFT has metadata that can be fetched and cached. */
+    public static boolean isSupported(BlockchainToken asset) {
+        return asset.isErc721 || (asset.isNft && asset.coin == CoinType.SOL);
+    }
+
+    /** Runs {@code callback} once the disk cache has been read. */
+    public static void load(Runnable callback) {
+        ThreadUtils.assertOnUiThread();
+        if (sLoaded) {
+            callback.run();
+            return;
+        }
+        if (sLoadWaiters != null) {
+            sLoadWaiters.add(callback);
+            return;
+        }
+        sLoadWaiters = new ArrayList<>();
+        sLoadWaiters.add(callback);
+        final int generation = sGeneration;
+        PostTask.postTask(TaskTraits.USER_VISIBLE_MAY_BLOCK, () -> {
+            Map<String, CachedMetadata> diskEntries = readFromDisk();
+            PostTask.postTask(TaskTraits.UI_USER_VISIBLE, () -> {
+                if (generation == sGeneration) {
+                    for (Map.Entry<String, CachedMetadata> entry : diskEntries.entrySet()) {
+                        sCache.putIfAbsent(entry.getKey(), entry.getValue());
+                    }
+                }
+                sLoaded = true;
+                List<Runnable> waiters = sLoadWaiters;
+                sLoadWaiters = null;
+                for (Runnable waiter : waiters) {
+                    waiter.run();
+                }
+            });
+        });
+    }
+
+    /** @return the cached metadata JSON, even if stale, or null. */
+    public static String get(BlockchainToken asset) {
+        ThreadUtils.assertOnUiThread();
+        CachedMetadata cached = sCache.get(getKey(asset));
+        return cached != null ? cached.mTokenMetadata : null;
+    }
+
+    /** @return whether the cached metadata is missing or older than the TTL. */
+    public static boolean isStale(BlockchainToken asset) {
+        ThreadUtils.assertOnUiThread();
+        CachedMetadata cached = sCache.get(getKey(asset));
+        return cached == null
+                || System.currentTimeMillis() - cached.mFetchedAtMs > METADATA_TTL_MS;
+    }
+
+    /**
+     * Fetches the metadata of a supported NFT, fills {@code context} with the response and fires
+     * its callback. Successful responses are cached.
+     */
+    public static void fetch(JsonRpcService jsonRpcService, BlockchainToken asset,
+            AsyncUtils.BaseGetNftMetadataContext context) {
+        ThreadUtils.assertOnUiThread();
+        String key = getKey(asset);
+        boolean issue = sInFlight.add(jsonRpcService, key, response -> {
+            // No response if the request was given up on, the context is left empty.
+            if (response != null) {
+                context.tokenMetadata = response.mTokenMetadata;
+                context.errorCode = response.mErrorCode;
+                context.errorMessage = response.mErrorMessage;
+            }
+            context.fireResponseCompleteCallback();
+        });
+        if (!issue) return;
+
+        if (asset.coin == CoinType.SOL) {
+            jsonRpcService.getSolTokenMetadata(asset.chainId, asset.contractAddress,
+                    (tokenUrl, tokenMetadata, errorCode, errorMessage) -> {
+                        onResponse(jsonRpcService, key, tokenMetadata, errorCode, errorMessage,
+                                errorCode == SolanaProviderError.SUCCESS);
+                    });
+        } else {
+            jsonRpcService.getErc721Metadata(asset.contractAddress, asset.tokenId, asset.chainId,
+                    (tokenUrl, erc721Metadata, errorCode, errorMessage) -> {
+                        onResponse(jsonRpcService, key, erc721Metadata, errorCode, errorMessage,
+                                errorCode == ProviderError.SUCCESS);
+                    });
+        }
+    }
+
+    /**
+     * Drops the cached metadata, in memory and on disk, e.g. after the wallet was reset. Pending
+     * requests are given up on and their responses are not cached.
+     */
+    public static void clear() {
+        ThreadUtils.assertOnUiThread();
+        sGeneration++;
+        sCache.clear();
+        sInFlight.clear();
+        // Nothing left to read, the file is deleted below.
+        sLoaded = true;
+        // After any save already posted.
+        getSaveTaskRunner().postTask(() -> getCacheFile().delete());
+    }
+
+    private static void onResponse(JsonRpcService jsonRpcService, String key,
+            String tokenMetadata, Integer errorCode, String errorMessage, boolean success) {
+        boolean pending = sInFlight.complete(jsonRpcService, key,
+                new MetadataResponse(tokenMetadata, errorCode, errorMessage));
+        // Not pending anymore if the cache was cleared meanwhile.
+        if (pending && success && !TextUtils.isEmpty(tokenMetadata)) {
+            sCache.put(key, new CachedMetadata(tokenMetadata, System.currentTimeMillis()));
+            scheduleSave();
+        }
+    }
+
+    private static String getKey(BlockchainToken asset) {
+        // Solana addresses are case sensitive, so the contract address is used as is.
+        return asset.coin + "|" + asset.chainId + "|" + asset.contractAddress + "|"
+                + asset.tokenId;
+    }
+
+    // Saves once per burst of responses.
+    private static void scheduleSave() {
+        if (sSaveScheduled) return;
+        sSaveScheduled = true;
+        PostTask.postDelayedTask(TaskTraits.UI_DEFAULT, () -> {
+            sSaveScheduled = false;
+            Map<String, CachedMetadata> snapshot = new LinkedHashMap<>(sCache);
+            // Sequenced, so two saves never write the temporary file at the same time.
+            getSaveTaskRunner().postTask(() -> writeToDisk(snapshot));
+        }, SAVE_DELAY_MS);
+    }
+
+    private static SequencedTaskRunner getSaveTaskRunner() {
+        if (sSaveTaskRunner == null) {
+            sSaveTaskRunner = PostTask.createSequencedTaskRunner(TaskTraits.BEST_EFFORT_MAY_BLOCK);
+        }
+        return sSaveTaskRunner;
+    }
+
+    private static File getCacheFile() {
+        return new File(ContextUtils.getApplicationContext().getCacheDir(), CACHE_FILE);
+    }
+
+    private static Map<String, CachedMetadata> readFromDisk() {
+        Map<String, CachedMetadata> entries = new LinkedHashMap<>();
+        File file = getCacheFile();
+        if (!file.exists()) return entries;
+        byte[] bytes = new byte[(int) file.length()];
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = inputStream.read(bytes, offset, bytes.length - offset);
+                if (read < 0) return entries;
+                offset += read;
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "readFromDisk: IOException: " + e.getMessage());
+            return entries;
+        }
+        try {
+            JSONObject json = new JSONObject(new String(bytes, StandardCharsets.UTF_8));
+            Iterator<String> keys = json.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                JSONObject entry = json.getJSONObject(key);
+                entries.put(key,
+                        new CachedMetadata(
+                                entry.getString(KEY_METADATA), entry.getLong(KEY_FETCHED_AT)));
+            }
+        } catch (JSONException e) {
+            Log.e(TAG, "readFromDisk: JSONException: " + e.getMessage());
+            file.delete();
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private static void writeToDisk(Map<String, CachedMetadata> entries) {
+        byte[] bytes;
+        try {
+            JSONObject json = new JSONObject();
+            for (Map.Entry<String, CachedMetadata> entry : entries.entrySet()) {
+                JSONObject value = new JSONObject();
+                value.put(KEY_METADATA, entry.getValue().mTokenMetadata);
+                value.put(KEY_FETCHED_AT, entry.getValue().mFetchedAtMs);
+                json.put(entry.getKey(), value);
+            }
+            bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        } catch (JSONException e) {
+            Log.e(TAG, "writeToDisk: JSONException: " + e.getMessage());
+            return;
+        }
+        File file = getCacheFile();
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(tmpFile)) {
+            outputStream.write(bytes);
+        } catch (IOException e) {
+            Log.e(TAG, "writeToDisk: IOException: " + e.getMessage());
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+        }
+    }
+}
@@ -47,6 +47,7 @@ public class PortfolioHelper {
     private int mFiatHistoryTimeframe;
     private final List<NetworkInfo> mCryptoNetworks;
     private Map<String, Integer> mAssertSortPriorityPerCoinIndex;
+    private AsyncUtils.MultiResponseHandler mHistoryMultiResponse;
 
     public PortfolioHelper(BraveWalletBaseActivity activity, List<NetworkInfo> cryptoNetworks,
             AccountInfo[] accountInfos) {
@@ -122,7 +123,7 @@ public class PortfolioHelper {
         for (NetworkInfo networkInfo : mSelectedNetworks) {
             List<AccountInfo> accountInfosPerCoin = JavaUtils.filter(
                     mAccountInfos, accountInfo -> accountInfo.accountId.coin == networkInfo.coin);
-            Utils.getTxExtraInfo(mActivity, type, mCryptoNetworks, networkInfo,
+            Utils.getTxExtraInfoAmounts(mActivity, type, mCryptoNetworks, networkInfo,
                     accountInfosPerCoin.toArray(new AccountInfo[0]), null, true,
                     (assetPrices, userAssetsList, nativeAssetsBalances,
                             blockchainTokensBalances) -> {
@@ -202,42 +203,46 @@ public class PortfolioHelper {
 
     private void createBalanceRecords(
             List<AssetAccountsNetworkBalance> assetAccountsNetworkBalances) {
+        // Per token balances are summed in fixed point and converted to double once.
+        HashMap<String, TokenAmount> perTokenCryptoAmount = new HashMap<>();
+        HashMap<String, Double> perTokenPrice = new HashMap<>();
         for (AssetAccountsNetworkBalance assetAccountsNetworkBalance :
                 assetAccountsNetworkBalances) {
             // Sum across accounts
             for (AccountInfo accountInfo : assetAccountsNetworkBalance.accountInfos) {
                 final String accountAddressLower =
                         accountInfo.address.toLowerCase(Locale.getDefault());
-                HashMap<String, Double> thisAccountTokensBalances =
+                HashMap<String, TokenAmount> thisAccountTokensBalances =
                         Utils.getOrDefault(assetAccountsNetworkBalance.blockchainTokensBalances,
-                                accountAddressLower, new HashMap<String, Double>());
+                                accountAddressLower, new HashMap<String, TokenAmount>());
                 for (BlockchainToken userAsset : assetAccountsNetworkBalance.userAssetsList) {
                     String currentAssetKey = Utils.tokenToString(userAsset);
-                    double prevTokenCryptoBalanceSum =
-                            Utils.getOrDefault(mPerTokenCryptoSum, currentAssetKey, 0.0d);
-                    final double thisCryptoBalance =
+                    final TokenAmount thisCryptoAmount =
                             Utils.isNativeToken(assetAccountsNetworkBalance.networkInfo, userAsset)
                             ? Utils.getOrDefault(assetAccountsNetworkBalance.nativeAssetsBalances,
-                                    accountAddressLower, 0.0d)
-                            : Utils.getOrDefault(thisAccountTokensBalances, currentAssetKey, 0.0d);
-
-                    mPerTokenCryptoSum.put(
-                            currentAssetKey, prevTokenCryptoBalanceSum + thisCryptoBalance);
-
-                    double prevTokenFiatBalanceSum =
-                            Utils.getOrDefault(mPerTokenFiatSum, currentAssetKey, 0.0d);
-                    double thisTokenPrice =
+                                    accountAddressLower, TokenAmount.ZERO)
+                            : Utils.getOrDefault(
+                                    thisAccountTokensBalances, currentAssetKey, TokenAmount.ZERO);
+
+                    TokenAmount prevCryptoAmount = perTokenCryptoAmount.get(currentAssetKey);
+                    perTokenCryptoAmount.put(currentAssetKey,
+                            prevCryptoAmount != null ? prevCryptoAmount.add(thisCryptoAmount)
+                                                     : thisCryptoAmount);
+                    perTokenPrice.put(currentAssetKey,
                             Utils.getOrDefault(assetAccountsNetworkBalance.assetPrices,
-                                    userAsset.symbol.toLowerCase(Locale.getDefault()), 0.0d);
-                    double thisFiatBalance = thisTokenPrice * thisCryptoBalance;
-
-                    mPerTokenFiatSum.put(
-                            currentAssetKey, prevTokenFiatBalanceSum + thisFiatBalance);
-
-                    mTotalFiatSum += thisFiatBalance;
+                                    userAsset.symbol.toLowerCase(Locale.getDefault()), 0.0d));
                 }
             }
         }
+
+        for (Map.Entry<String, TokenAmount> entry : perTokenCryptoAmount.entrySet()) {
+            final String currentAssetKey = entry.getKey();
+            final double cryptoSum = entry.getValue().toDouble();
+            final double fiatSum = perTokenPrice.get(currentAssetKey) * cryptoSum;
+            mPerTokenCryptoSum.put(currentAssetKey, cryptoSum);
+            mPerTokenFiatSum.put(currentAssetKey, fiatSum);
+            mTotalFiatSum += fiatSum;
+        }
     }
 
     private void resetResultData() {
@@ -265,6 +270,14 @@ public class PortfolioHelper {
         return history;
     }
 
+    /** Stops waiting for price history responses, e.g. when the portfolio screen goes away. */
+    public void cancelPendingRequests() {
+        if (mHistoryMultiResponse != null) {
+            mHistoryMultiResponse.cancel();
+            mHistoryMultiResponse = null;
+        }
+    }
+
     public void calculateFiatHistory(Runnable runWhenDone) {
         mFiatHistory = new AssetTimePrice[0];
         var nonZeroBalanceAssetList =
@@ -275,78 +288,74 @@ public class PortfolioHelper {
                         })
                         .collect(Collectors.toList());
 
-        AsyncUtils.MultiResponseHandler historyMultiResponse =
-                new AsyncUtils.MultiResponseHandler(nonZeroBalanceAssetList.size());
-
-        ArrayList<AsyncUtils.GetPriceHistoryResponseContext> pricesHistoryContexts =
-                new ArrayList<AsyncUtils.GetPriceHistoryResponseContext>();
-
-        for (BlockchainToken userAsset : nonZeroBalanceAssetList) {
-            AsyncUtils.GetPriceHistoryResponseContext priceHistoryContext =
-                    new AsyncUtils.GetPriceHistoryResponseContext(
-                            historyMultiResponse.singleResponseComplete);
-
-            priceHistoryContext.userAsset = userAsset;
-            pricesHistoryContexts.add(priceHistoryContext);
-
-            if (mActivity.get() != null && !mActivity.get().isFinishing()) {
-                mActivity.get().getAssetRatioService().getPriceHistory(
-                        AssetUtils.assetRatioId(userAsset), "usd", mFiatHistoryTimeframe,
-                        priceHistoryContext);
-            }
+        // A newer timeframe replaces the history that is still loading.
+        cancelPendingRequests();
+        if (mActivity.get() == null || mActivity.get().isFinishing()) {
+            mFiatHistory = getZeroPortfolioHistory();
+            runWhenDone.run();
+            return;
         }
+        mHistoryMultiResponse = AssetsPricesHelper.fetchPriceHistories(
+                mActivity.get().getAssetRatioService(), nonZeroBalanceAssetList,
+                mFiatHistoryTimeframe, priceHistories -> {
+                    mHistoryMultiResponse = null;
+                    // Algorithm is taken from the desktop:
+                    // components/brave_wallet_ui/common/reducers/wallet_reducer.ts
+                    // WalletActions.portfolioPriceHistoryUpdated:
+                    // 1. Exclude price history responses of zero length
+                    // 2. Choose the price history of the shortest length
+                    // 3. Per user selected token:
+                    //    3.1 multiply each token history-entry price by current tokens amount
+                    //    3.2 so have the history of per-date fiat balance per token
+                    // 4. Base on shortest history consolidate fiat history.
+                    //    4.1 take first date from shortest history prices, it may not
+                    //        the dates from the others tokens histories
+                    //    4.2 take first-entries from all tokens and sum them
+                    //    4.3 go through 4.1 and 4.2 till there are entries in shortest
+                    //        history. Some histories may have more entries - they are just
+                    //        ignored.
+                    List<AssetsPricesHelper.PriceHistory> histories = new ArrayList<>();
+                    List<Double> balances = new ArrayList<>();
+                    AssetsPricesHelper.PriceHistory shortestHistory = null;
+                    for (BlockchainToken userAsset : nonZeroBalanceAssetList) {
+                        AssetsPricesHelper.PriceHistory history =
+                                priceHistories.get(AssetUtils.assetRatioId(userAsset));
+                        if (history == null) continue;
+                        histories.add(history);
+                        balances.add(Utils.getOrDefault(
+                                mPerTokenCryptoSum, Utils.tokenToString(userAsset), 0.0d));
+                        if (shortestHistory == null
+                                || history.prices.length < shortestHistory.prices.length) {
+                            shortestHistory = history;
+                        }
+                    }
+
+                    if (shortestHistory == null) {
+                        // All history price requests failed
+                        mFiatHistory = getZeroPortfolioHistory();
+                        runWhenDone.run();
+                        return;
+                    }
+
+                    int shortestPricesLength = shortestHistory.prices.length;
+                    double[] fiatSums = new double[shortestPricesLength];
+                    for (int h = 0; h < histories.size(); ++h) {
+                        double[] prices = histories.get(h).prices;
+                        double balance = balances.get(h);
+                        for (int i = 0; i < shortestPricesLength; ++i) {
+                            fiatSums[i] += prices[i] * balance;
+                        }
+                    }
 
-        historyMultiResponse.setWhenAllCompletedAction(() -> {
-            // Algorithm is taken from the desktop:
-            // components/brave_wallet_ui/common/reducers/wallet_reducer.ts
-            // WalletActions.portfolioPriceHistoryUpdated:
-            // 1. Exclude price history responses of zero length
-            // 2. Choose the price history of the shortest length
-            // 3. Per user selected token:
-            //    3.1 multiply each token history-entry price by current tokens amount
-            //    3.2 so have the history of per-date fiat balance per token
-            // 4. Base on shortest history consolidate fiat history.
-            //    4.1 take first date from shortest history prices, it may not
-            //        the dates from the others tokens histories
-            //    4.2 take first-entries from all tokens and sum them
-            //    4.3 go through 4.1 and 4.2 till there are entries in shortest
-            //        history. Some histories may have more entries - they are just ignored.
-
-            Utils.removeIf(pricesHistoryContexts, phc -> phc.timePrices.length == 0);
-
-            if (pricesHistoryContexts.isEmpty()) {
-                // All history price requests failed
-                mFiatHistory = getZeroPortfolioHistory();
-                runWhenDone.run();
-                return;
-            }
-
-            AsyncUtils.GetPriceHistoryResponseContext shortestPriceHistoryContext =
-                    Collections.min(pricesHistoryContexts, (l, r) -> {
-                        return Integer.compare(l.timePrices.length, r.timePrices.length);
-                    });
-
-            int shortestPricesLength = shortestPriceHistoryContext.timePrices.length;
-
-            mFiatHistory = new AssetTimePrice[shortestPricesLength];
-
-            // Go over the selected userAssets
-            for (int i = 0; i < shortestPricesLength; ++i) {
-                mFiatHistory[i] = new AssetTimePrice();
-                mFiatHistory[i].date = shortestPriceHistoryContext.timePrices[i].date;
+                    mFiatHistory = new AssetTimePrice[shortestPricesLength];
+                    for (int i = 0; i < shortestPricesLength; ++i) {
+                        mFiatHistory[i] = new AssetTimePrice();
+                        mFiatHistory[i].date = shortestHistory.timePrices[i].date;
+                        mFiatHistory[i].price = Double.toString(fiatSums[i]);
+                    }
 
-                Double thisDateFiatSum = 0.0d;
-                for (AsyncUtils.GetPriceHistoryResponseContext priceHistoryContext :
-                        pricesHistoryContexts) {
-                    thisDateFiatSum += Float.parseFloat(priceHistoryContext.timePrices[i].price)
-                            * Utils.getOrDefault(mPerTokenCryptoSum,
-                                    Utils.tokenToString(priceHistoryContext.userAsset), 0.0d);
-                }
-                mFiatHistory[i].price = Double.toString(thisDateFiatSum);
-            }
-
-            runWhenDone.run();
-        });
+                    runWhenDone.run();
+                });
     }
 
     public void setSelectedNetworks(List<NetworkInfo> mSelectedNetworks) {
@@ -363,14 +372,15 @@ public class PortfolioHelper {
     private static class AssetAccountsNetworkBalance {
         HashMap<String, Double> assetPrices;
         BlockchainToken[] userAssetsList;
-        HashMap<String, Double> nativeAssetsBalances;
-        HashMap<String, HashMap<String, Double>> blockchainTokensBalances;
+        HashMap<String, TokenAmount> nativeAssetsBalances;
+        HashMap<String, HashMap<String, TokenAmount>> blockchainTokensBalances;
         NetworkInfo networkInfo;
         List<AccountInfo> accountInfos;
 
         public AssetAccountsNetworkBalance(HashMap<String, Double> assetPrices,
-                BlockchainToken[] userAssetsList, HashMap<String, Double> nativeAssetsBalances,
-                HashMap<String, HashMap<String, Double>> blockchainTokensBalances,
+                BlockchainToken[] userAssetsList,
+                HashMap<String, TokenAmount> nativeAssetsBalances,
+                HashMap<String, HashMap<String, TokenAmount>> blockchainTokensBalances,
                 NetworkInfo networkInfo, List<AccountInfo> accountInfos) {
             this.assetPrices = assetPrices;
             this.userAssetsList = userAssetsList;
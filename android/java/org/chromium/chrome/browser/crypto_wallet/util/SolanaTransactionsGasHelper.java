@@ -67,13 +67,14 @@ public class SolanaTransactionsGasHelper {
         estimatesMultiResponse.setWhenAllCompletedAction(() -> {
             for (AsyncUtils.GetSolanaEstimatedTxFeeResponseContext estimatesContext :
                     estimatesContexts) {
-                if (estimatesContext.error != SolanaProviderError.SUCCESS) {
+                if (estimatesContext.error == null
+                        || estimatesContext.error != SolanaProviderError.SUCCESS) {
                     continue;
                 }
                 mPerTxFee.put(estimatesContext.txMetaId, estimatesContext.fee);
             }
 
             runWhenDone.run();
-        });
+        }, AsyncUtils.DEFAULT_RESPONSES_TIMEOUT_MS);
     }
 }
@@ -0,0 +1,91 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import androidx.annotation.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Immutable fixed-point token amount: an integer number of base units (wei, lamports) and the
+ * token decimals. Sums are exact; conversion to {@code double} only happens for display and fiat
+ * math, and is truncated to {@link #DISPLAY_DECIMALS} like the rest of the wallet.
+ */
+public final class TokenAmount {
+    public static final int DISPLAY_DECIMALS = 8;
+
+    public static final TokenAmount ZERO = new TokenAmount(BigInteger.ZERO, 0);
+
+    // Covers the largest uint256 value.
+    private static final int CACHED_POWERS = 80;
+    private static final BigInteger[] POWERS_OF_TEN = new BigInteger[CACHED_POWERS];
+
+    static {
+        POWERS_OF_TEN[0] = BigInteger.ONE;
+        for (int i = 1; i < CACHED_POWERS; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1].multiply(BigInteger.TEN);
+        }
+    }
+
+    private final BigInteger mUnits;
+    private final int mDecimals;
+
+    private TokenAmount(BigInteger units, int decimals) {
+        mUnits = units;
+        mDecimals = decimals;
+    }
+
+    /** @return the amount for a hex encoded number of base units, "0x" prefixed or not. */
+    public static TokenAmount fromHexUnits(@NonNull String number, int decimals) {
+        int start = number.startsWith("0x") ? 2 : 0;
+        if (start == number.length() || number.equals("0x0")) {
+            return new TokenAmount(BigInteger.ZERO, decimals);
+        }
+        return new TokenAmount(new BigInteger(number.substring(start), 16), decimals);
+    }
+
+    /** @return the amount for a decimal encoded number of base units. */
+    public static TokenAmount fromUnits(String number, int decimals) {
+        if (number == null || number.isEmpty()) {
+            return new TokenAmount(BigInteger.ZERO, decimals);
+        }
+        return new TokenAmount(new BigInteger(number), decimals);
+    }
+
+    /**
+     * @return 10 to the power of {@code exponent}, from the precomputed table when possible.
+     * @throws IllegalArgumentException if {@code exponent} is negative.
+     */
+    public static BigInteger powerOfTen(int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Negative exponent: " + exponent);
+        }
+        if (exponent < CACHED_POWERS) return POWERS_OF_TEN[exponent];
+        return BigInteger.TEN.pow(exponent);
+    }
+
+    /** @return the exact sum, with the larger number of decimals of the two amounts. */
+    public TokenAmount add(@NonNull TokenAmount other) {
+        if (other.mDecimals == mDecimals) {
+            return new TokenAmount(mUnits.add(other.mUnits), mDecimals);
+        }
+        if (other.mDecimals > mDecimals) {
+            return other.add(this);
+        }
+        BigInteger otherUnits = other.mUnits.multiply(powerOfTen(mDecimals - other.mDecimals));
+        return new TokenAmount(mUnits.add(otherUnits), mDecimals);
+    }
+
+    /** @return the amount in whole tokens, truncated to {@link #DISPLAY_DECIMALS}. */
+    public double toDouble() {
+        if (mDecimals <= DISPLAY_DECIMALS) {
+            return new BigDecimal(mUnits, mDecimals).doubleValue();
+        }
+        BigInteger truncated = mUnits.divide(powerOfTen(mDecimals - DISPLAY_DECIMALS));
+        return new BigDecimal(truncated, DISPLAY_DECIMALS).doubleValue();
+    }
+}
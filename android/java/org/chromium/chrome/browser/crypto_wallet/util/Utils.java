@@ -364,36 +364,13 @@ public class Utils {
 
     @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
     public static String getDecimalsDepNumber(int decimals) {
-        String strDecimals = "1";
-        for (int i = 0; i < decimals; i++) {
-            strDecimals += "0";
-        }
-
-        return strDecimals;
+        if (decimals <= 0) return "1";
+        return TokenAmount.powerOfTen(decimals).toString();
     }
 
     // Equivalent of Amount.divideByDecimals on desktop
     public static double fromHexWei(String number, int decimals) {
-        if (number.equals("0x0")) {
-            return 0;
-        }
-        if (number.startsWith("0x")) {
-            number = number.substring(2);
-        }
-        if (number.isEmpty()) {
-            return 0;
-        }
-        BigInteger bigNumber = new BigInteger(number, 16);
-        BigInteger divider = new BigInteger(getDecimalsDepNumber(decimals));
-        BigDecimal bDecimal = new BigDecimal(bigNumber);
-        BigDecimal bDecimalRes = bDecimal.divide(new BigDecimal(divider));
-        String resStr = bDecimalRes.toPlainString();
-        int integerPlaces = resStr.indexOf('.');
-        if (integerPlaces != -1 && (integerPlaces + 9) <= resStr.length()) {
-            resStr = resStr.substring(0, integerPlaces + 9);
-        }
-
-        return Double.valueOf(resStr);
+        return TokenAmount.fromHexUnits(number, decimals).toDouble();
     }
 
     public static double fromHexGWeiToGWEI(String number) {
@@ -451,20 +428,7 @@ public class Utils {
     }
 
     public static double fromWei(String number, int decimals) {
-        if (number == null || number.isEmpty()) {
-            return 0;
-        }
-        BigInteger bigNumber = new BigInteger(number);
-        BigInteger divider = new BigInteger(getDecimalsDepNumber(decimals));
-        BigDecimal bDecimal = new BigDecimal(bigNumber);
-        BigDecimal bDecimalRes = bDecimal.divide(new BigDecimal(divider));
-        String resStr = bDecimalRes.toPlainString();
-        int integerPlaces = resStr.indexOf('.');
-        if (integerPlaces != -1 && (integerPlaces + 9) <= resStr.length()) {
-            resStr = resStr.substring(0, integerPlaces + 9);
-        }
-
-        return Double.valueOf(resStr);
+        return TokenAmount.fromUnits(number, decimals).toDouble();
     }
 
     public static String toHexWei(String number, int decimals) {
@@ -816,6 +780,10 @@ public class Utils {
 
     public static Bitmap drawTextToBitmap(
             Bitmap bitmap, String text, float scale, float scaleDown) {
+        if (!bitmap.isMutable()) {
+            // Blockies icons are cached and shared, so draw on a copy.
+            bitmap = bitmap.copy(Bitmap.Config.ARGB_8888, true);
+        }
         Canvas canvas = new Canvas(bitmap);
         Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
         paint.setColor(0xFF3D3D3D);
@@ -1597,6 +1565,25 @@ public class Utils {
             BlockchainToken[] filterByTokens, boolean userAssetsOnly,
             Callbacks.Callback4<HashMap<String, Double>, BlockchainToken[], HashMap<String, Double>,
                     HashMap<String, HashMap<String, Double>>> callback) {
+        getTxExtraInfoAmounts(activityRef, tokenType, allNetworks, selectedNetwork, accountInfos,
+                filterByTokens, userAssetsOnly,
+                (assetPrices, tokens, nativeAssetsBalances, blockchainTokensBalances)
+                        -> callback.call(assetPrices, tokens,
+                                BalanceHelper.toBalances(nativeAssetsBalances),
+                                BalanceHelper.toTokensBalances(blockchainTokensBalances)));
+    }
+
+    /**
+     * Like {@link #getTxExtraInfo}, with the balances kept in fixed point, e.g. to sum them
+     * exactly.
+     */
+    public static void getTxExtraInfoAmounts(WeakReference<BraveWalletBaseActivity> activityRef,
+            TokenUtils.TokenType tokenType, List<NetworkInfo> allNetworks,
+            NetworkInfo selectedNetwork, AccountInfo[] accountInfos,
+            BlockchainToken[] filterByTokens, boolean userAssetsOnly,
+            Callbacks.Callback4<HashMap<String, Double>, BlockchainToken[],
+                    HashMap<String, TokenAmount>, HashMap<String, HashMap<String, TokenAmount>>>
+                    callback) {
         BraveWalletBaseActivity activity = activityRef.get();
         if (activity == null || activity.isFinishing()) {
             return;
@@ -1709,21 +1696,18 @@ public class Utils {
     // TODO(sergz): Move getCoinIcon, getKeyringForEthOrSolOnly, getBalanceForCoinType
     // to some kind of a separate Utils file that is related to diff networks only
     public static double getBalanceForCoinType(int coinType, int decimals, String balance) {
-        double result = 0.0d;
+        return getAmountForCoinType(coinType, decimals, balance).toDouble();
+    }
+
+    public static TokenAmount getAmountForCoinType(int coinType, int decimals, String balance) {
         switch (coinType) {
-            case CoinType.ETH:
-                result = Utils.fromHexWei(balance, decimals);
-                break;
             case CoinType.SOL:
             case CoinType.FIL:
-                result = Utils.fromWei(balance, decimals);
-                break;
+                return TokenAmount.fromUnits(balance, decimals);
+            case CoinType.ETH:
             default:
-                result = Utils.fromHexWei(balance, decimals);
-                break;
+                return TokenAmount.fromHexUnits(balance, decimals);
         }
-
-        return result;
     }
 
     public static boolean allowBuy(String chainId) {
@@ -24,6 +24,15 @@ public class BraveStatsTable {
         + COLUMN_STAT_SITE_DOMAIN + " TEXT,"
         + COLUMN_TIMESTAMP + " DATETIME"
         + ")";
+    public static final String CREATE_TIMESTAMP_INDEX =
+        "CREATE INDEX IF NOT EXISTS " + TABLE_NAME + "_timestamp_index ON " + TABLE_NAME
+        + "(" + COLUMN_TIMESTAMP + ")";
+    public static final String CREATE_DOMAIN_INDEX =
+        "CREATE INDEX IF NOT EXISTS " + TABLE_NAME + "_domain_index ON " + TABLE_NAME
+        + "(" + COLUMN_DOMAIN + ", " + COLUMN_TIMESTAMP + ")";
+    public static final String CREATE_STAT_SITE_DOMAIN_INDEX =
+        "CREATE INDEX IF NOT EXISTS " + TABLE_NAME + "_stat_site_domain_index ON " + TABLE_NAME
+        + "(" + COLUMN_STAT_SITE_DOMAIN + ", " + COLUMN_TIMESTAMP + ")";
 
     public BraveStatsTable() {
     }
@@ -0,0 +1,172 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.local_database;
+
+import org.chromium.base.ApplicationState;
+import org.chromium.base.ApplicationStatus;
+import org.chromium.base.Log;
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.task.PostTask;
+import org.chromium.base.task.SequencedTaskRunner;
+import org.chromium.base.task.TaskTraits;
+import org.chromium.chrome.browser.brave_stats.BraveStatsUtil;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write-behind queue for Shields stats. Blocked resource and saved bandwidth events are buffered
+ * in memory and flushed by a single sequenced consumer into brave_db in one transaction, either
+ * when the batch is full, after a short delay, or when the app goes to background.
+ */
+public class BraveStatsWriteQueue {
+    private static final String TAG = "BraveStatsQueue";
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_PENDING_EVENTS = 2000;
+    private static final long FLUSH_DELAY_MS = 2000;
+
+    private static BraveStatsWriteQueue sInstance;
+
+    private final Object mLock = new Object();
+    private final SequencedTaskRunner mTaskRunner;
+    private final DatabaseHelper mDatabaseHelper;
+
+    // Guarded by mLock.
+    private ArrayList<StatEvent> mPendingStats = new ArrayList<>();
+    private long mPendingSavedBandwidth;
+    private boolean mFlushScheduled;
+    private boolean mDrainPosted;
+
+    private static class StatEvent {
+        final String mStatType;
+        final String mStatSite;
+        final String mUrl;
+
+        StatEvent(String statType, String statSite, String url) {
+            mStatType = statType;
+            mStatSite = statSite;
+            mUrl = url;
+        }
+    }
+
+    public static BraveStatsWriteQueue getInstance() {
+        ThreadUtils.assertOnUiThread();
+        if (sInstance == null) {
+            sInstance = new BraveStatsWriteQueue(DatabaseHelper.getInstance());
+        }
+        return sInstance;
+    }
+
+    private BraveStatsWriteQueue(DatabaseHelper databaseHelper) {
+        mDatabaseHelper = databaseHelper;
+        mTaskRunner = PostTask.createSequencedTaskRunner(TaskTraits.BEST_EFFORT_MAY_BLOCK);
+        ApplicationStatus.registerApplicationStateListener(newState -> {
+            if (newState == ApplicationState.HAS_STOPPED_ACTIVITIES
+                    || newState == ApplicationState.HAS_DESTROYED_ACTIVITIES) {
+                flush();
+            }
+        });
+    }
+
+    public void addStat(String statType, String statSite, String url) {
+        synchronized (mLock) {
+            if (mPendingStats.size() >= MAX_PENDING_EVENTS) {
+                // Consumer is behind, drop the event instead of growing without bound.
+                Log.w(TAG, "Dropping stat, queue is full");
+                return;
+            }
+            mPendingStats.add(new StatEvent(statType, statSite, url));
+            scheduleFlushLocked(mPendingStats.size() >= MAX_BATCH_SIZE);
+        }
+    }
+
+    public void addSavedBandwidth(long savings) {
+        synchronized (mLock) {
+            // Saved bandwidth is only ever summed, so collapse the batch into a single row.
+            mPendingSavedBandwidth += savings;
+            scheduleFlushLocked(false);
+        }
+    }
+
+    /** Forces pending events to be written without waiting for the batch or time trigger. */
+    public void flush() {
+        synchronized (mLock) {
+            if (mPendingStats.isEmpty() && mPendingSavedBandwidth == 0) {
+                return;
+            }
+            postDrainLocked();
+        }
+    }
+
+    private void scheduleFlushLocked(boolean immediate) {
+        if (immediate) {
+            postDrainLocked();
+            return;
+        }
+        if (mFlushScheduled) {
+            return;
+        }
+        mFlushScheduled = true;
+        mTaskRunner.postDelayedTask(this::drain, FLUSH_DELAY_MS);
+    }
+
+    // A queued drain takes every event added before it runs, so one is enough.
+    private void postDrainLocked() {
+        if (mDrainPosted) {
+            return;
+        }
+        mDrainPosted = true;
+        mTaskRunner.postTask(this::drain);
+    }
+
+    private void drain() {
+        List<StatEvent> stats;
+        long savedBandwidth;
+        synchronized (mLock) {
+            mFlushScheduled = false;
+            mDrainPosted = false;
+            if (mPendingStats.isEmpty() && mPendingSavedBandwidth == 0) {
+                return;
+            }
+            stats = mPendingStats;
+            savedBandwidth = mPendingSavedBandwidth;
+            mPendingStats = new ArrayList<>();
+            mPendingSavedBandwidth = 0;
+        }
+
+        String timestamp = BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0);
+        List<BraveStatsTable> braveStats = new ArrayList<>(stats.size());
+        String lastUrl = null;
+        String lastUrlHost = null;
+        for (StatEvent event : stats) {
+            try {
+                // Consecutive events usually come from the same page, so reuse the parsed host.
+                if (!event.mUrl.equals(lastUrl)) {
+                    lastUrlHost = new URL(event.mUrl).getHost();
+                    lastUrl = event.mUrl;
+                }
+                URL siteObject = new URL(event.mStatSite);
+                braveStats.add(new BraveStatsTable(event.mUrl, lastUrlHost, event.mStatType,
+                        event.mStatSite, siteObject.getHost(), timestamp));
+            } catch (Exception e) {
+                // Skip events with invalid urls.
+                lastUrl = null;
+            }
+        }
+        List<SavedBandwidthTable> savedBandwidths = new ArrayList<>(1);
+        if (savedBandwidth != 0) {
+            savedBandwidths.add(new SavedBandwidthTable(savedBandwidth, timestamp));
+        }
+
+        try {
+            mDatabaseHelper.insertStatsBatch(braveStats, savedBandwidths);
+        } catch (Exception e) {
+            Log.e(TAG, "Failed to write stats batch: " + e.getMessage());
+        }
+    }
+}
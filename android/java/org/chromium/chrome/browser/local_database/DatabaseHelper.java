@@ -9,8 +9,10 @@ import android.annotation.SuppressLint;
 import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
+import android.database.DatabaseUtils;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
 import android.util.Pair;
 
 import org.chromium.base.ContextUtils;
@@ -22,18 +24,33 @@ import org.chromium.chrome.browser.ntp_background_images.util.NTPUtil;
 import org.chromium.url.mojom.Url;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DatabaseHelper extends SQLiteOpenHelper {
 
     private static volatile DatabaseHelper mInstance;
 
     // Database Version
-    private static final int DATABASE_VERSION = 3;
+    private static final int DATABASE_VERSION = 4;
 
     // Database Name
     private static final String DATABASE_NAME = "brave_db";
 
+    // Display ads by tab id and feed position, read by every bound display ad card. Positions
+    // without an ad are cached as NO_DISPLAY_AD. Cleared whenever the display ads table changes.
+    private static final DisplayAdsTable NO_DISPLAY_AD = new DisplayAdsTable();
+    // Writes to the cache and mDisplayAdsVersion are guarded by mDisplayAdsLock, reads are not.
+    private final Map<String, DisplayAdsTable> mDisplayAdCache = new ConcurrentHashMap<>();
+    private final Object mDisplayAdsLock = new Object();
+    private int mDisplayAdsVersion;
+    // Rows of the top sites table in order, null until read. Guarded by mTopSitesLock.
+    private final Object mTopSitesLock = new Object();
+    private List<TopSiteTable> mTopSites;
+
     public static DatabaseHelper getInstance() {
         synchronized (DatabaseHelper.class) {
             if (mInstance == null) {
@@ -57,11 +74,19 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         db.execSQL(BraveStatsTable.CREATE_TABLE);
         db.execSQL(SavedBandwidthTable.CREATE_TABLE);
         db.execSQL(DisplayAdsTable.CREATE_TABLE);
+
+        // create stats indexes
+        db.execSQL(BraveStatsTable.CREATE_TIMESTAMP_INDEX);
+        db.execSQL(BraveStatsTable.CREATE_DOMAIN_INDEX);
+        db.execSQL(BraveStatsTable.CREATE_STAT_SITE_DOMAIN_INDEX);
+        db.execSQL(SavedBandwidthTable.CREATE_TIMESTAMP_INDEX);
     }
 
     // Upgrading database
     @Override
     public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // All statements are idempotent, so this creates any tables and indexes (added in
+        // version 4) that are missing from older databases.
         onCreate(db);
     }
 
@@ -94,6 +119,9 @@ public class DatabaseHelper extends SQLiteOpenHelper {
 
             // insert row
             long newRowId = db.insert(DisplayAdsTable.TABLE_NAME, null, values);
+            if (newRowId != -1) {
+                invalidateDisplayAdCache();
+            }
         }
     }
 
@@ -115,10 +143,50 @@ public class DatabaseHelper extends SQLiteOpenHelper {
     public void deleteDisplayAdsFromTab(int tabId) {
         SQLiteDatabase db = this.getWritableDatabase();
         db.delete(DisplayAdsTable.TABLE_NAME, DisplayAdsTable.COLUMN_TAB_ID + " = " + tabId, null);
+        invalidateDisplayAdCache();
+    }
+
+    /**
+     * @return whether the display ad at this position is cached, in which case
+     *         {@link #getDisplayAd} doesn't touch the database and can be called on the UI thread.
+     */
+    public boolean isDisplayAdCached(int position, int tabId) {
+        return mDisplayAdCache.containsKey(getDisplayAdKey(position, tabId));
     }
 
-    @SuppressLint("Range")
     public DisplayAdsTable getDisplayAd(int position, int tabId) {
+        String key = getDisplayAdKey(position, tabId);
+        DisplayAdsTable cached = mDisplayAdCache.get(key);
+        if (cached != null) {
+            return cached == NO_DISPLAY_AD ? null : cached;
+        }
+        int version;
+        synchronized (mDisplayAdsLock) {
+            version = mDisplayAdsVersion;
+        }
+        DisplayAdsTable braveAd = queryDisplayAd(position, tabId);
+        synchronized (mDisplayAdsLock) {
+            // Don't cache a result read before a concurrent change of the table.
+            if (version == mDisplayAdsVersion) {
+                mDisplayAdCache.put(key, braveAd == null ? NO_DISPLAY_AD : braveAd);
+            }
+        }
+        return braveAd;
+    }
+
+    private void invalidateDisplayAdCache() {
+        synchronized (mDisplayAdsLock) {
+            mDisplayAdsVersion++;
+            mDisplayAdCache.clear();
+        }
+    }
+
+    private static String getDisplayAdKey(int position, int tabId) {
+        return tabId + ":" + position;
+    }
+
+    @SuppressLint("Range")
+    private DisplayAdsTable queryDisplayAd(int position, int tabId) {
         String selectQuery = "SELECT  * FROM " + DisplayAdsTable.TABLE_NAME + " where "
                 + DisplayAdsTable.COLUMN_POSITION + " = " + position + " AND "
                 + DisplayAdsTable.COLUMN_TAB_ID + " = " + tabId;
@@ -171,12 +239,77 @@ public class DatabaseHelper extends SQLiteOpenHelper {
             values.put(TopSiteTable.COLUMN_IMAGE_PATH, topSite.getImagePath());
 
             // insert row
-            db.insert(TopSiteTable.TABLE_NAME, null, values);
+            synchronized (mTopSitesLock) {
+                db.insert(TopSiteTable.TABLE_NAME, null, values);
+                mTopSites = null;
+            }
+        }
+    }
+
+    /**
+     * Replaces the top sites with {@code topSites}, except those removed by the user, in a
+     * single transaction. Nothing is written when the table already holds the same sites.
+     *
+     * @return the top sites in the table afterwards.
+     */
+    public List<TopSiteTable> replaceTopSites(List<TopSite> topSites) {
+        List<TopSiteTable> newTopSites = new ArrayList<>(topSites.size());
+        Set<String> destinationUrls = new HashSet<>();
+        for (TopSite topSite : topSites) {
+            String destinationUrl = topSite.getDestinationUrl();
+            if (NTPUtil.isInRemovedTopSite(destinationUrl)
+                    || !destinationUrls.add(destinationUrl)) {
+                continue;
+            }
+            newTopSites.add(new TopSiteTable(topSite.getName(), destinationUrl,
+                    topSite.getBackgroundColor(), topSite.getImagePath()));
+        }
+
+        synchronized (mTopSitesLock) {
+            if (newTopSites.equals(getAllTopSites())) {
+                return new ArrayList<>(newTopSites);
+            }
+            SQLiteDatabase db = this.getWritableDatabase();
+            db.beginTransaction();
+            try {
+                db.delete(TopSiteTable.TABLE_NAME, null, null);
+                SQLiteStatement statement = db.compileStatement("INSERT INTO "
+                        + TopSiteTable.TABLE_NAME + " (" + TopSiteTable.COLUMN_NAME + ", "
+                        + TopSiteTable.COLUMN_DESTINATION_URL + ", "
+                        + TopSiteTable.COLUMN_BACKGROUND_COLOR + ", "
+                        + TopSiteTable.COLUMN_IMAGE_PATH + ") VALUES (?, ?, ?, ?)");
+                try {
+                    for (TopSiteTable topSite : newTopSites) {
+                        bindStringOrNull(statement, 1, topSite.getName());
+                        bindStringOrNull(statement, 2, topSite.getDestinationUrl());
+                        bindStringOrNull(statement, 3, topSite.getBackgroundColor());
+                        bindStringOrNull(statement, 4, topSite.getImagePath());
+                        statement.executeInsert();
+                        statement.clearBindings();
+                    }
+                } finally {
+                    statement.close();
+                }
+                db.setTransactionSuccessful();
+                mTopSites = newTopSites;
+            } finally {
+                db.endTransaction();
+            }
+            return new ArrayList<>(newTopSites);
         }
     }
 
-    @SuppressLint("Range")
     public List<TopSiteTable> getAllTopSites() {
+        synchronized (mTopSitesLock) {
+            if (mTopSites == null) {
+                mTopSites = queryAllTopSites();
+            }
+            return new ArrayList<>(mTopSites);
+        }
+    }
+
+    @SuppressLint("Range")
+    private List<TopSiteTable> queryAllTopSites() {
         List<TopSiteTable> topSites = new ArrayList<>();
 
         // Select All Query
@@ -217,25 +350,75 @@ public class DatabaseHelper extends SQLiteOpenHelper {
 
     public void deleteTopSite(String destinationUrl) {
         SQLiteDatabase db = this.getWritableDatabase();
-        db.delete(TopSiteTable.TABLE_NAME, TopSiteTable.COLUMN_DESTINATION_URL + " = ?",
-                  new String[] {destinationUrl});
+        synchronized (mTopSitesLock) {
+            db.delete(TopSiteTable.TABLE_NAME, TopSiteTable.COLUMN_DESTINATION_URL + " = ?",
+                    new String[] {destinationUrl});
+            mTopSites = null;
+        }
     }
 
-    public long insertStats(BraveStatsTable braveStat) {
-        // if (!isAdsTrackerAlreadyAdded(braveStat)) {
+    /**
+     * Inserts a batch of stats and saved bandwidth rows in a single transaction, reusing one
+     * prepared statement per table. Used by {@link BraveStatsWriteQueue}.
+     */
+    public void insertStatsBatch(
+            List<BraveStatsTable> braveStats, List<SavedBandwidthTable> savedBandwidths) {
+        if (braveStats.isEmpty() && savedBandwidths.isEmpty()) {
+            return;
+        }
         SQLiteDatabase db = this.getWritableDatabase();
+        db.beginTransaction();
+        try {
+            if (!braveStats.isEmpty()) {
+                SQLiteStatement statsStatement = db.compileStatement("INSERT INTO "
+                        + BraveStatsTable.TABLE_NAME + " (" + BraveStatsTable.COLUMN_URL + ", "
+                        + BraveStatsTable.COLUMN_DOMAIN + ", " + BraveStatsTable.COLUMN_STAT_TYPE
+                        + ", " + BraveStatsTable.COLUMN_STAT_SITE + ", "
+                        + BraveStatsTable.COLUMN_STAT_SITE_DOMAIN + ", "
+                        + BraveStatsTable.COLUMN_TIMESTAMP + ") VALUES (?, ?, ?, ?, ?, ?)");
+                try {
+                    for (BraveStatsTable braveStat : braveStats) {
+                        bindStringOrNull(statsStatement, 1, braveStat.getUrl());
+                        bindStringOrNull(statsStatement, 2, braveStat.getDomain());
+                        bindStringOrNull(statsStatement, 3, braveStat.getStatType());
+                        bindStringOrNull(statsStatement, 4, braveStat.getStatSite());
+                        bindStringOrNull(statsStatement, 5, braveStat.getStatSiteDomain());
+                        bindStringOrNull(statsStatement, 6, braveStat.getTimestamp());
+                        statsStatement.executeInsert();
+                        statsStatement.clearBindings();
+                    }
+                } finally {
+                    statsStatement.close();
+                }
+            }
+            if (!savedBandwidths.isEmpty()) {
+                SQLiteStatement bandwidthStatement = db.compileStatement("INSERT INTO "
+                        + SavedBandwidthTable.TABLE_NAME + " ("
+                        + SavedBandwidthTable.COLUMN_SAVED_BANDWIDTH + ", "
+                        + SavedBandwidthTable.COLUMN_TIMESTAMP + ") VALUES (?, ?)");
+                try {
+                    for (SavedBandwidthTable savedBandwidth : savedBandwidths) {
+                        bandwidthStatement.bindLong(1, savedBandwidth.getSavedBandwidth());
+                        bindStringOrNull(bandwidthStatement, 2, savedBandwidth.getTimestamp());
+                        bandwidthStatement.executeInsert();
+                        bandwidthStatement.clearBindings();
+                    }
+                } finally {
+                    bandwidthStatement.close();
+                }
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
 
-        ContentValues values = new ContentValues();
-        values.put(BraveStatsTable.COLUMN_URL, braveStat.getUrl());
-        values.put(BraveStatsTable.COLUMN_DOMAIN, braveStat.getDomain());
-        values.put(BraveStatsTable.COLUMN_STAT_TYPE, braveStat.getStatType());
-        values.put(BraveStatsTable.COLUMN_STAT_SITE, braveStat.getStatSite());
-        values.put(BraveStatsTable.COLUMN_STAT_SITE_DOMAIN, braveStat.getStatSiteDomain());
-        values.put(BraveStatsTable.COLUMN_TIMESTAMP, braveStat.getTimestamp());
-
-        return  db.insert(BraveStatsTable.TABLE_NAME, null, values);
-        // }
-        // return -1;
+    private static void bindStringOrNull(SQLiteStatement statement, int index, String value) {
+        if (value == null) {
+            statement.bindNull(index);
+        } else {
+            statement.bindString(index, value);
+        }
     }
 
     private boolean isAdsTrackerAlreadyAdded(BraveStatsTable braveStat) {
@@ -256,82 +439,37 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return count > 0;
     }
 
-    @SuppressLint("Range")
-    public List<BraveStatsTable> getAllStats() {
-        List<BraveStatsTable> braveStats = new ArrayList<>();
-
-        // Select All Query
-        String selectQuery = "SELECT  * FROM "
-                             + BraveStatsTable.TABLE_NAME;
-
+    public long getStatsCount() {
         SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = db.rawQuery(selectQuery, null);
-
-        // looping through all rows and adding to list
-        if (cursor.moveToFirst()) {
-            do {
-                BraveStatsTable braveStat = new BraveStatsTable(
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_URL)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_DOMAIN)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_STAT_TYPE)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_STAT_SITE)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_STAT_SITE_DOMAIN)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_TIMESTAMP)));
-
-                braveStats.add(braveStat);
-            } while (cursor.moveToNext());
-        }
-
-        cursor.close();
-
-        return braveStats;
+        return DatabaseUtils.queryNumEntries(db, BraveStatsTable.TABLE_NAME);
     }
 
-    @SuppressLint("Range")
-    public List<BraveStatsTable> getAllStatsWithDate(String thresholdTime, String currentTime) {
-        List<BraveStatsTable> braveStats = new ArrayList<>();
-        // Select All Query
-        String selectQuery = "SELECT  * FROM "
-                             + BraveStatsTable.TABLE_NAME
-                             + " WHERE " + BraveStatsTable.COLUMN_TIMESTAMP
-                             + " BETWEEN date('" + thresholdTime + "') AND date('" + currentTime + "')";
-
+    public long getStatsCountWithDate(String thresholdTime, String currentTime) {
         SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = db.rawQuery(selectQuery, null);
-
-        // looping through all rows and adding to list
-        if (cursor.moveToFirst()) {
-            do {
-                BraveStatsTable braveStat = new BraveStatsTable(
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_URL)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_DOMAIN)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_STAT_TYPE)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_STAT_SITE)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_STAT_SITE_DOMAIN)),
-                    cursor.getString(cursor.getColumnIndex(BraveStatsTable.COLUMN_TIMESTAMP)));
-
-                braveStats.add(braveStat);
-            } while (cursor.moveToNext());
-        }
-
-        cursor.close();
-
-        return braveStats;
+        return DatabaseUtils.queryNumEntries(db, BraveStatsTable.TABLE_NAME,
+                BraveStatsTable.COLUMN_TIMESTAMP + " BETWEEN date(?) AND date(?)",
+                new String[] {thresholdTime, currentTime});
     }
 
+    /**
+     * Returns the top {@code limit} page domains by number of blocked items in the date range,
+     * or all of them if {@code limit} is not positive.
+     */
     @SuppressLint("Range")
-    public List<Pair<String, Integer>> getStatsWithDate(String thresholdTime, String currentTime) {
+    public List<Pair<String, Integer>> getStatsWithDate(
+            String thresholdTime, String currentTime, int limit) {
         List<Pair<String, Integer>> braveStats = new ArrayList<>();
 
         String selectQuery = "SELECT  " + BraveStatsTable.COLUMN_DOMAIN + ", " + BraveStatsTable.COLUMN_TIMESTAMP + " , COUNT(*) as stat_count FROM "
                              + BraveStatsTable.TABLE_NAME
                              + " WHERE " + BraveStatsTable.COLUMN_TIMESTAMP
-                             + " BETWEEN date('" + thresholdTime + "') AND date('" + currentTime + "')"
+                             + " BETWEEN date(?) AND date(?)"
                              + " GROUP BY " + BraveStatsTable.COLUMN_DOMAIN
-                             + " ORDER BY stat_count DESC";
+                             + " ORDER BY stat_count DESC"
+                             + (limit > 0 ? " LIMIT " + limit : "");
 
         SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = db.rawQuery(selectQuery, null);
+        Cursor cursor = db.rawQuery(selectQuery, new String[] {thresholdTime, currentTime});
 
         if (cursor.moveToFirst()) {
             do {
@@ -345,19 +483,25 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         return braveStats;
     }
 
+    /**
+     * Returns the top {@code limit} blocked resource domains by count in the date range, or all
+     * of them if {@code limit} is not positive.
+     */
     @SuppressLint("Range")
-    public List<Pair<String, Integer>> getSitesWithDate(String thresholdTime, String currentTime) {
+    public List<Pair<String, Integer>> getSitesWithDate(
+            String thresholdTime, String currentTime, int limit) {
         List<Pair<String, Integer>> braveStats = new ArrayList<>();
         // Select All Query
         String selectQuery = "SELECT  " + BraveStatsTable.COLUMN_STAT_SITE_DOMAIN + ", COUNT(*) as site_count FROM "
                              + BraveStatsTable.TABLE_NAME
                              + " WHERE " + BraveStatsTable.COLUMN_TIMESTAMP
-                             + " BETWEEN date('" + thresholdTime + "') AND date('" + currentTime + "')"
+                             + " BETWEEN date(?) AND date(?)"
                              + " GROUP BY " + BraveStatsTable.COLUMN_STAT_SITE_DOMAIN
-                             + " ORDER BY site_count DESC";
+                             + " ORDER BY site_count DESC"
+                             + (limit > 0 ? " LIMIT " + limit : "");
 
         SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = db.rawQuery(selectQuery, null);
+        Cursor cursor = db.rawQuery(selectQuery, new String[] {thresholdTime, currentTime});
 
         // looping through all rows and adding to list
         if (cursor.moveToFirst()) {
@@ -378,28 +522,16 @@ public class DatabaseHelper extends SQLiteOpenHelper {
         db.execSQL(selectQuery);
     }
 
-    public long insertSavedBandwidth(SavedBandwidthTable savedBandwidthTable) {
-        // get writable database as we want to write data
-        SQLiteDatabase db = this.getWritableDatabase();
-
-        ContentValues values = new ContentValues();
-        values.put(SavedBandwidthTable.COLUMN_SAVED_BANDWIDTH, savedBandwidthTable.getSavedBandwidth());
-        values.put(SavedBandwidthTable.COLUMN_TIMESTAMP, savedBandwidthTable.getTimestamp());
-
-        // insert row
-        return db.insert(SavedBandwidthTable.TABLE_NAME, null, values);
-    }
-
     @SuppressLint("Range")
     public long getTotalSavedBandwidthWithDate(String thresholdTime, String currentTime) {
         long sum = 0;
         String selectQuery = "SELECT  SUM(" + SavedBandwidthTable.COLUMN_SAVED_BANDWIDTH + ") as total FROM "
                              + SavedBandwidthTable.TABLE_NAME
-                             + " WHERE " + BraveStatsTable.COLUMN_TIMESTAMP
-                             + " BETWEEN date('" + thresholdTime + "') AND date('" + currentTime + "')";
+                             + " WHERE " + SavedBandwidthTable.COLUMN_TIMESTAMP
+                             + " BETWEEN date(?) AND date(?)";
 
         SQLiteDatabase db = this.getReadableDatabase();
-        Cursor cursor = db.rawQuery(selectQuery, null);
+        Cursor cursor = db.rawQuery(selectQuery, new String[] {thresholdTime, currentTime});
 
         if (cursor.moveToFirst())
             sum = cursor.getLong(cursor.getColumnIndex("total"));
@@ -16,6 +16,9 @@ public class SavedBandwidthTable {
         + COLUMN_SAVED_BANDWIDTH + " INTEGER,"
         + COLUMN_TIMESTAMP + " DATETIME"
         + ")";
+    public static final String CREATE_TIMESTAMP_INDEX =
+        "CREATE INDEX IF NOT EXISTS " + TABLE_NAME + "_timestamp_index ON " + TABLE_NAME
+        + "(" + COLUMN_TIMESTAMP + ")";
 
     public SavedBandwidthTable() {
     }
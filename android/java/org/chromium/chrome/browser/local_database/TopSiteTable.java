@@ -5,6 +5,8 @@
 
 package org.chromium.chrome.browser.local_database;
 
+import java.util.Objects;
+
 public class TopSiteTable {
     public static final String TABLE_NAME = "top_site_table";
 
@@ -52,4 +54,20 @@ public class TopSiteTable {
     public String getImagePath() {
         return mImagePath;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) return true;
+        if (!(other instanceof TopSiteTable)) return false;
+        TopSiteTable topSite = (TopSiteTable) other;
+        return Objects.equals(mName, topSite.mName)
+                && Objects.equals(mDestinationUrl, topSite.mDestinationUrl)
+                && Objects.equals(mBackgroundColor, topSite.mBackgroundColor)
+                && Objects.equals(mImagePath, topSite.mImagePath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mName, mDestinationUrl, mBackgroundColor, mImagePath);
+    }
 }
\ No newline at end of file
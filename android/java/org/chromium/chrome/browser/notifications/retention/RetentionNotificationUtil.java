@@ -122,7 +122,7 @@ public class RetentionNotificationUtil {
         switch (notificationType) {
         case HOUR_3:
             if (OnboardingPrefManager.getInstance().isBraveStatsEnabled()) {
-                long adsTrackersCount = mDatabaseHelper.getAllStats().size();
+                long adsTrackersCount = mDatabaseHelper.getStatsCount();
                 if (adsTrackersCount >= 5) {
                     return String.format(context.getResources().getString(R.string.notification_hour_3_text_1), adsTrackersCount);
                 } else {
@@ -142,10 +142,9 @@ public class RetentionNotificationUtil {
             }
         case EVERY_SUNDAY:
             long adsTrackersCountWeekly =
-                    mDatabaseHelper
-                            .getAllStatsWithDate(BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", -7),
-                                    BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0))
-                            .size();
+                    mDatabaseHelper.getStatsCountWithDate(
+                            BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", -7),
+                            BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
             Log.e("NTP", "Weekly count : " + adsTrackersCountWeekly);
             return String.format(context.getResources().getString(R.string.notification_weekly_stats), adsTrackersCountWeekly);
         case DAY_6:
@@ -14,8 +14,6 @@ import android.content.SharedPreferences;
 import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.Point;
-import android.graphics.Rect;
-import android.graphics.drawable.BitmapDrawable;
 import android.os.Build;
 import android.os.Handler;
 import android.os.Looper;
@@ -37,7 +35,10 @@ import android.widget.ProgressBar;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListUpdateCallback;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.SimpleItemAnimator;
 
@@ -52,22 +53,23 @@ import org.chromium.base.supplier.Supplier;
 import org.chromium.base.task.AsyncTask;
 import org.chromium.base.task.PostTask;
 import org.chromium.base.task.TaskTraits;
-import org.chromium.brave_news.mojom.Article;
 import org.chromium.brave_news.mojom.BraveNewsController;
 import org.chromium.brave_news.mojom.CardType;
 import org.chromium.brave_news.mojom.DisplayAd;
 import org.chromium.brave_news.mojom.Feed;
 import org.chromium.brave_news.mojom.FeedItem;
-import org.chromium.brave_news.mojom.FeedItemMetadata;
 import org.chromium.brave_news.mojom.FeedPage;
 import org.chromium.brave_news.mojom.FeedPageItem;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.BraveRewardsHelper;
 import org.chromium.chrome.browser.app.BraveActivity;
 import org.chromium.chrome.browser.brave_news.BraveNewsControllerFactory;
+import org.chromium.chrome.browser.brave_news.BraveNewsFeedSnapshot;
 import org.chromium.chrome.browser.brave_news.BraveNewsUtils;
 import org.chromium.chrome.browser.brave_news.CardBuilderFeedCard;
 import org.chromium.chrome.browser.brave_news.LinearLayoutManagerWrapper;
+import org.chromium.chrome.browser.brave_news.NewsImageCache;
+import org.chromium.chrome.browser.brave_news.NewsImpressionTracker;
 import org.chromium.chrome.browser.brave_news.models.FeedItemCard;
 import org.chromium.chrome.browser.brave_news.models.FeedItemsCard;
 import org.chromium.chrome.browser.brave_stats.BraveStatsUtil;
@@ -112,11 +114,11 @@ import org.chromium.mojo.bindings.ConnectionErrorHandler;
 import org.chromium.mojo.system.MojoException;
 import org.chromium.ui.base.DeviceFormFactor;
 import org.chromium.ui.base.WindowAndroid;
+import org.chromium.url.mojom.Url;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -124,7 +126,8 @@ public class BraveNewTabPageLayout
         extends NewTabPageLayout implements ConnectionErrorHandler, OnBraveNtpListener {
     private static final String TAG = "BraveNewTabPage";
 
-    private static final int MINIMUM_VISIBLE_HEIGHT_THRESHOLD = 50;
+    // Number of news cards past the viewport whose images are prefetched.
+    private static final int NEWS_IMAGE_PREFETCH_CARDS = 5;
 
     // To delete in bytecode, parent variable will be used instead.
     private ViewGroup mMvTilesContainerLayout;
@@ -136,7 +139,6 @@ public class BraveNewTabPageLayout
     private Profile mProfile;
     private SponsoredTab mSponsoredTab;
 
-    private BitmapDrawable mImageDrawable;
 
     private FetchWallpaperWorkerTask mWorkerTask;
     private boolean mIsFromBottomSheet;
@@ -165,17 +167,9 @@ public class BraveNewTabPageLayout
     private NTPImage mNtpImageGlobal;
     private BraveNewsController mBraveNewsController;
 
-    private long mStartCardViewTime;
-    private long mEndCardViewTime;
-    private String mCreativeInstanceId;
-    private String mUuid;
-    //@TODO alex make an enum
-    private String mCardType;
-    private int mItemPosition;
+    private NewsImpressionTracker mImpressionTracker;
     private int mPrevVisibleNewsCardPosition = -1;
     private int mNewsSessionCardViews;
-    private FeedItemsCard mVisibleCard;
-    private String mFeedHash;
     private SharedPreferences.OnSharedPreferenceChangeListener mPreferenceListener;
     private boolean mComesFromNewTab;
     private boolean mIsTopSitesEnabled;
@@ -183,6 +177,7 @@ public class BraveNewTabPageLayout
     private boolean mIsDisplayNewsFeed;
     private boolean mIsDisplayNewsOptin;
     private boolean mNewsFeedViewedOnce;
+    private int mLastImagePrefetchPosition = RecyclerView.NO_POSITION;
 
     private Supplier<Tab> mTabProvider;
 
@@ -205,7 +200,6 @@ public class BraveNewTabPageLayout
         mComesFromNewTab = false;
 
         NTPUtil.showBREBottomBanner(this);
-        mFeedHash = "";
         initBraveNewsController();
         try {
             if (BraveNewsUtils.shouldDisplayNewsFeed()
@@ -422,6 +416,9 @@ public class BraveNewTabPageLayout
 
                 if (!isFeedLoaded || isFromNewTab) {
                     mNtpAdapter.setNewsLoading(true);
+                    if (mNewsItemsFeedCard.isEmpty()) {
+                        showFeedSnapshot();
+                    }
                     getFeed(false);
 
                 } else {
@@ -435,6 +432,13 @@ public class BraveNewTabPageLayout
         }
 
         mPrevVisibleNewsCardPosition = firstNewsFeedPosition() - 1;
+        if (mImpressionTracker != null) {
+            mImpressionTracker.destroy();
+        }
+        mImpressionTracker =
+                new NewsImpressionTracker(
+                        mRecyclerView, linearLayoutManager, mImpressionTrackerDelegate);
+        mImpressionTracker.onVisibilityChanged(isWindowShown());
         mRecyclerView.addOnScrollListener(
                 new RecyclerView.OnScrollListener() {
                     @Override
@@ -492,26 +496,6 @@ public class BraveNewTabPageLayout
                                 mNewsFeedViewedOnce = true;
                             }
                             if (newState == RecyclerView.SCROLL_STATE_DRAGGING) {
-                                mEndCardViewTime = System.currentTimeMillis();
-                                long timeDiff = mEndCardViewTime - mStartCardViewTime;
-                                // if viewed for more than 100 ms send the event
-                                if (timeDiff > BraveNewsUtils.BRAVE_NEWS_VIEWD_CARD_TIME) {
-                                    if (mVisibleCard != null && mCardType != null) {
-                                        // send viewed cards events
-                                        if (mCardType.equals("promo")
-                                                && !mCardType.equals("displayad")) {
-                                            if (!mUuid.equals("")
-                                                    && !mCreativeInstanceId.equals("")) {
-                                                mVisibleCard.setViewStatSent(true);
-                                                if (mBraveNewsController != null) {
-                                                    mBraveNewsController.onPromotedItemView(
-                                                            mUuid, mCreativeInstanceId);
-                                                }
-                                            }
-                                        }
-                                    }
-                                }
-
                                 int lastVisibleItemPosition =
                                         linearLayoutManager.findLastCompletelyVisibleItemPosition();
                                 if (mNewsItemsFeedCard != null
@@ -552,166 +536,7 @@ public class BraveNewTabPageLayout
                                 }
                             }
 
-                            if (newState == RecyclerView.SCROLL_STATE_IDLE
-                                    || newState == RecyclerView.SCROLL_STATE_DRAGGING) {
-                                mStartCardViewTime = System.currentTimeMillis();
-                                int lastVisibleItemPosition =
-                                        linearLayoutManager.findLastVisibleItemPosition();
-
-                                mFeedHash =
-                                        ContextUtils.getAppSharedPreferences()
-                                                .getString(
-                                                        BravePreferenceKeys.BRAVE_NEWS_FEED_HASH,
-                                                        "");
-                                // @TODO alex optimize feed availability check
-                                if (mBraveNewsController != null) {
-                                    mBraveNewsController.isFeedUpdateAvailable(
-                                            mFeedHash,
-                                            isNewsFeedAvailable -> {
-                                                if (isNewsFeedAvailable) {
-                                                    mPrevVisibleNewsCardPosition =
-                                                            mPrevVisibleNewsCardPosition + 1;
-
-                                                    setNewContentChanges(true);
-                                                }
-                                            });
-                                }
-
-                                Rect rvRect = new Rect();
-                                mRecyclerView.getGlobalVisibleRect(rvRect);
-
-                                int visiblePercentage = 0;
-                                for (int viewPosition = firstVisibleItemPosition;
-                                        viewPosition <= lastVisibleItemPosition;
-                                        viewPosition++) {
-                                    Rect rowRect = new Rect();
-                                    if (linearLayoutManager.findViewByPosition(viewPosition)
-                                            != null) {
-                                        linearLayoutManager
-                                                .findViewByPosition(viewPosition)
-                                                .getGlobalVisibleRect(rowRect);
-
-                                        if (linearLayoutManager
-                                                        .findViewByPosition(viewPosition)
-                                                        .getHeight()
-                                                > 0) {
-                                            if (rowRect.bottom >= rvRect.bottom) {
-                                                int visibleHeightFirst =
-                                                        rvRect.bottom - rowRect.top;
-                                                visiblePercentage =
-                                                        (visibleHeightFirst * 100)
-                                                                / linearLayoutManager
-                                                                        .findViewByPosition(
-                                                                                viewPosition)
-                                                                        .getHeight();
-                                            } else {
-                                                int visibleHeightFirst =
-                                                        rowRect.bottom - rvRect.top;
-                                                visiblePercentage =
-                                                        (visibleHeightFirst * 100)
-                                                                / linearLayoutManager
-                                                                        .findViewByPosition(
-                                                                                viewPosition)
-                                                                        .getHeight();
-                                            }
-                                        }
-
-                                        if (visiblePercentage > 100) {
-                                            visiblePercentage = 100;
-                                        }
-                                    }
-
-                                    final int visiblePercentageFinal = visiblePercentage;
-
-                                    int newsFeedViewPosition = viewPosition - newsFeedPosition;
-                                    if (newsFeedViewPosition >= 0
-                                            && newsFeedViewPosition < mNewsItemsFeedCard.size()) {
-                                        if (visiblePercentageFinal
-                                                >= MINIMUM_VISIBLE_HEIGHT_THRESHOLD) {
-                                            mVisibleCard =
-                                                    mNewsItemsFeedCard.get(newsFeedViewPosition);
-                                            // get params for view PROMOTED_ARTICLE
-                                            if (mVisibleCard.getCardType()
-                                                    == CardType.PROMOTED_ARTICLE) {
-                                                mItemPosition = newsFeedViewPosition;
-                                                mCreativeInstanceId =
-                                                        BraveNewsUtils.getPromotionIdItem(
-                                                                mVisibleCard);
-                                                mUuid = mVisibleCard.getUuid();
-                                                mCardType = "promo";
-                                            }
-
-                                            // get params for view DISPLAY_AD
-                                            if (mVisibleCard.getCardType() == CardType.DISPLAY_AD) {
-                                                mItemPosition = newsFeedViewPosition;
-                                                DisplayAd currentDisplayAd =
-                                                        BraveNewsUtils.getFromDisplayAdsMap(
-                                                                newsFeedViewPosition);
-                                                if (currentDisplayAd != null) {
-                                                    mCreativeInstanceId =
-                                                            currentDisplayAd != null
-                                                                    ? currentDisplayAd
-                                                                            .creativeInstanceId
-                                                                    : "";
-                                                    mUuid =
-                                                            currentDisplayAd != null
-                                                                    ? currentDisplayAd.uuid
-                                                                    : "";
-                                                    mCardType = "displayad";
-
-                                                    // if viewed for more than 100 ms and is more
-                                                    // than 50%
-                                                    // visible send the event
-                                                    Timer timer = new Timer();
-                                                    timer.schedule(
-                                                            new TimerTask() {
-                                                                @Override
-                                                                public void run() {
-                                                                    new Thread() {
-                                                                        @Override
-                                                                        public void run() {
-                                                                            if (!mDatabaseHelper
-                                                                                            .isDisplayAdAlreadyAdded(
-                                                                                                    mUuid)
-                                                                                    && visiblePercentageFinal
-                                                                                            > MINIMUM_VISIBLE_HEIGHT_THRESHOLD
-                                                                                    && mBraveNewsController
-                                                                                            != null) {
-                                                                                mVisibleCard
-                                                                                        .setViewStatSent(
-                                                                                                true);
-                                                                                mBraveNewsController
-                                                                                        .onDisplayAdView(
-                                                                                                mUuid,
-                                                                                                mCreativeInstanceId);
-
-                                                                                insertAd();
-                                                                            }
-                                                                        }
-                                                                    }.start();
-                                                                }
-                                                            },
-                                                            BraveNewsUtils
-                                                                    .BRAVE_NEWS_VIEWD_CARD_TIME);
-                                                }
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        }
-                    }
-
-                    private void insertAd() {
-                        DisplayAd currentDisplayAd =
-                                BraveNewsUtils.getFromDisplayAdsMap(mItemPosition);
-                        try {
-                            mDatabaseHelper.insertAd(
-                                    currentDisplayAd,
-                                    mItemPosition,
-                                    BraveActivity.getBraveActivity().getActivityTab().getId());
-                        } catch (BraveActivity.BraveActivityNotFoundException e) {
-                            Log.e(TAG, "insertAd " + e);
+                            mImpressionTracker.requestSample();
                         }
                     }
 
@@ -720,6 +545,9 @@ public class BraveNewTabPageLayout
                         super.onScrolled(recyclerView, dx, dy);
 
                         if (mIsDisplayNewsFeed) {
+                            mImpressionTracker.requestSample();
+                            prefetchNewsImages(linearLayoutManager.findLastVisibleItemPosition());
+
                             int lastVisibleItemPosition =
                                     linearLayoutManager.findLastCompletelyVisibleItemPosition();
 
@@ -769,6 +597,62 @@ public class BraveNewTabPageLayout
                 });
     }
 
+    private final NewsImpressionTracker.Delegate mImpressionTrackerDelegate =
+            new NewsImpressionTracker.Delegate() {
+                @Override
+                public int getFirstNewsPosition() {
+                    return firstNewsFeedPosition();
+                }
+
+                @Override
+                public List<FeedItemsCard> getNewsCards() {
+                    return mNewsItemsFeedCard;
+                }
+
+                @Override
+                public BraveNewsController getBraveNewsController() {
+                    return mBraveNewsController;
+                }
+
+                @Override
+                public void onDisplayAdViewed(DisplayAd displayAd, int position) {
+                    int tabId;
+                    try {
+                        Tab tab = BraveActivity.getBraveActivity().getActivityTab();
+                        if (tab == null) return;
+                        tabId = tab.getId();
+                    } catch (BraveActivity.BraveActivityNotFoundException e) {
+                        Log.e(TAG, "onDisplayAdViewed " + e);
+                        return;
+                    }
+                    PostTask.postTask(
+                            TaskTraits.BEST_EFFORT_MAY_BLOCK,
+                            () -> mDatabaseHelper.insertAd(displayAd, position, tabId));
+                }
+
+                @Override
+                public void onFeedUpdateAvailable() {
+                    mPrevVisibleNewsCardPosition = mPrevVisibleNewsCardPosition + 1;
+                    setNewContentChanges(true);
+                }
+            };
+
+    private void prefetchNewsImages(int lastVisibleItemPosition) {
+        if (mBraveNewsController == null || lastVisibleItemPosition == RecyclerView.NO_POSITION
+                || lastVisibleItemPosition == mLastImagePrefetchPosition) {
+            return;
+        }
+        mLastImagePrefetchPosition = lastVisibleItemPosition;
+        int start = Math.max(0, lastVisibleItemPosition + 1 - mNtpAdapter.getFirstNewsPosition());
+        int end = Math.min(mNewsItemsFeedCard.size(), start + NEWS_IMAGE_PREFETCH_CARDS);
+        List<Url> imageUrls = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            imageUrls.addAll(BraveNewsUtils.getCardImageUrls(mNewsItemsFeedCard.get(i)));
+        }
+        // Replaces the previous range, so cards that scrolled out of range are not fetched.
+        NewsImageCache.prefetch(mBraveNewsController, imageUrls);
+    }
+
     private void keepPosition() {
         try {
             Tab tab = BraveActivity.getBraveActivity().getActivityTab();
@@ -892,11 +776,9 @@ public class BraveNewTabPageLayout
         }
 
         if (!mIsFromBottomSheet) {
+            // The wallpaper bitmap is shared through WallpaperBitmapCache, so it is not recycled
+            // here.
             setBackgroundResource(0);
-            if (mImageDrawable != null && mImageDrawable.getBitmap() != null
-                    && !mImageDrawable.getBitmap().isRecycled()) {
-                mImageDrawable.getBitmap().recycle();
-            }
         }
         mNTPBackgroundImagesBridge.removeObserver(mNTPBackgroundImageServiceObserver);
 
@@ -908,7 +790,9 @@ public class BraveNewTabPageLayout
             }
         }
 
+        mLastImagePrefetchPosition = RecyclerView.NO_POSITION;
         if (mBraveNewsController != null) {
+            NewsImageCache.onControllerClosed(mBraveNewsController);
             mBraveNewsController.close();
             mBraveNewsController = null;
         }
@@ -919,9 +803,34 @@ public class BraveNewTabPageLayout
         mPreferenceListener = null;
 
         mRecyclerView.clearOnScrollListeners();
+        if (mImpressionTracker != null) {
+            mImpressionTracker.destroy();
+            mImpressionTracker = null;
+        }
         super.onDetachedFromWindow();
     }
 
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (mImpressionTracker != null) {
+            mImpressionTracker.onVisibilityChanged(isWindowShown());
+        }
+    }
+
+    @Override
+    public void onWindowFocusChanged(boolean hasWindowFocus) {
+        super.onWindowFocusChanged(hasWindowFocus);
+        if (mImpressionTracker != null) {
+            mImpressionTracker.onVisibilityChanged(isWindowShown());
+        }
+    }
+
+    // Whether the news feed can be seen, so it is worth polling for a newer one.
+    private boolean isWindowShown() {
+        return getWindowVisibility() == View.VISIBLE && hasWindowFocus();
+    }
+
     @Override
     public void onConfigurationChanged(Configuration newConfig) {
         if (mSponsoredTab != null && NTPUtil.shouldEnableNTPFeature()) {
@@ -979,61 +888,68 @@ public class BraveNewTabPageLayout
 
     private void runFeed(boolean isNewContent, Feed feed) {
         if (feed == null) {
-            processFeed(isNewContent);
+            processFeed(isNewContent, null);
             return;
         }
 
-        mFeedHash = feed.hash;
-        int newsItemsFeedCardSize = mNewsItemsFeedCard.size();
-        new Handler(Looper.getMainLooper()).post(() -> {
-            mNtpAdapter.notifyItemRangeRemoved(
-                    mNtpAdapter.getStatsCount() + mNtpAdapter.getTopSitesCount() + 1,
-                    newsItemsFeedCardSize);
-        });
-
-        mNewsItemsFeedCard.clear();
         BraveNewsUtils.initCurrentAds();
         ContextUtils.getAppSharedPreferences()
                 .edit()
                 .putString(BravePreferenceKeys.BRAVE_NEWS_FEED_HASH, feed.hash)
                 .apply();
+        BraveNewsFeedSnapshot.save(feed);
+
+        List<FeedItemsCard> newsItemsFeedCard = buildFeedCards(feed);
+        processFeed(isNewContent, newsItemsFeedCard);
+    }
+
+    /**
+     * Converts the feed to cards. Cards that didn't change since the current feed keep their
+     * instance, and cards with the same items keep their uuid, so only changed cards rebind.
+     */
+    private List<FeedItemsCard> buildFeedCards(Feed feed) {
+        HashMap<String, FeedItemsCard> currentCards = new HashMap<>();
+        for (FeedItemsCard card : mNewsItemsFeedCard) {
+            if (card.getContentId() != null) {
+                currentCards.put(card.getContentId(), card);
+            }
+        }
+        HashMap<String, Integer> contentIdCounts = new HashMap<>();
+        List<FeedItemsCard> newsItemsFeedCard = new ArrayList<>();
 
         if (feed.featuredItem != null) {
             // process Featured item
             FeedItem featuredItem = feed.featuredItem;
             FeedItemsCard featuredItemsCard = new FeedItemsCard();
 
-            FeedItemMetadata featuredItemMetaData = new FeedItemMetadata();
-            Article featuredArticle = featuredItem.getArticle();
-            FeedItemMetadata featuredArticleData = featuredArticle.data;
-
             FeedItemCard featuredItemCard = new FeedItemCard();
             List<FeedItemCard> featuredCardItems = new ArrayList<>();
 
             featuredItemsCard.setCardType(CardType.HEADLINE);
-            featuredItemsCard.setUuid(UUID.randomUUID().toString());
 
             featuredItemCard.setFeedItem(featuredItem);
             featuredCardItems.add(featuredItemCard);
 
             featuredItemsCard.setFeedItems(featuredCardItems);
-            mNewsItemsFeedCard.add(featuredItemsCard);
+            newsItemsFeedCard.add(reuseOrInitCard(featuredItemsCard,
+                    BraveNewsUtils.getCardContentId(featuredItemsCard), currentCards,
+                    contentIdCounts));
         }
 
-        if (mNewsItemsFeedCard.size() > 0 || (feed.pages != null && feed.pages.length > 0)) {
+        if (newsItemsFeedCard.size() > 0 || (feed.pages != null && feed.pages.length > 0)) {
             //  adds empty card to trigger Display ad call for the second card, when the
             //  user starts scrolling
             FeedItemsCard displayAdCard = new FeedItemsCard();
             DisplayAd displayAd = new DisplayAd();
             displayAdCard.setCardType(CardType.DISPLAY_AD);
             displayAdCard.setDisplayAd(displayAd);
+            // Display ads are requested again for every feed, so the card is never reused.
+            displayAdCard.setContentId(uniqueContentId("displayad", contentIdCounts));
             displayAdCard.setUuid(UUID.randomUUID().toString());
-            mNewsItemsFeedCard.add(displayAdCard);
+            newsItemsFeedCard.add(displayAdCard);
         }
 
         // start page loop
-        int noPages = 0;
-        int itemIndex = 0;
         for (FeedPage page : feed.pages) {
             for (FeedPageItem cardData : page.items) {
                 // if for any reason we get an empty object, unless it's a
@@ -1046,10 +962,8 @@ public class BraveNewTabPageLayout
 
                 FeedItemsCard feedItemsCard = new FeedItemsCard();
                 feedItemsCard.setCardType(cardData.cardType);
-                feedItemsCard.setUuid(UUID.randomUUID().toString());
                 List<FeedItemCard> cardItems = new ArrayList<>();
                 for (FeedItem item : cardData.items) {
-                    FeedItemMetadata itemMetaData = new FeedItemMetadata();
                     FeedItemCard feedItemCard = new FeedItemCard();
                     feedItemCard.setFeedItem(item);
 
@@ -1058,27 +972,130 @@ public class BraveNewTabPageLayout
                     feedItemsCard.setFeedItems(cardItems);
                 }
 
-                mNewsItemsFeedCard.add(feedItemsCard);
+                newsItemsFeedCard.add(reuseOrInitCard(feedItemsCard,
+                        BraveNewsUtils.getCardContentId(feedItemsCard), currentCards,
+                        contentIdCounts));
 
                 // For show brave rating UI in news list at 10 th row
                 if (RateUtils.getInstance().shouldShowRateDialog(mActivity)
-                        && mNewsItemsFeedCard.size() == SHOW_BRAVE_RATE_ENTRY_AT) {
+                        && newsItemsFeedCard.size() == SHOW_BRAVE_RATE_ENTRY_AT) {
                     // Dummy entry for Rating prompt
                     FeedItemsCard dummy = new FeedItemsCard();
                     dummy.setCardType(CardBuilderFeedCard.CARDTYPE_BRAVE_RATING);
-                    dummy.setUuid(UUID.randomUUID().toString());
-                    mNewsItemsFeedCard.add(dummy);
+                    newsItemsFeedCard.add(
+                            reuseOrInitCard(dummy, "rating", currentCards, contentIdCounts));
                 }
             }
         } // end page loop
 
-        processFeed(isNewContent);
-        try {
-            BraveActivity.getBraveActivity().setNewsItemsFeedCards(mNewsItemsFeedCard);
-            BraveActivity.getBraveActivity().setLoadedFeed(true);
-        } catch (BraveActivity.BraveActivityNotFoundException e) {
-            Log.e(TAG, "getFeed " + e);
+        return newsItemsFeedCard;
+    }
+
+    private FeedItemsCard reuseOrInitCard(FeedItemsCard card, String contentId,
+            HashMap<String, FeedItemsCard> currentCards, HashMap<String, Integer> contentIdCounts) {
+        String uniqueContentId = uniqueContentId(contentId, contentIdCounts);
+        FeedItemsCard currentCard = currentCards.get(uniqueContentId);
+        if (currentCard != null && BraveNewsUtils.isSameCardContent(currentCard, card)) {
+            return currentCard;
+        }
+        card.setContentId(uniqueContentId);
+        if (currentCard != null) {
+            card.setUuid(currentCard.getUuid());
+            card.setViewStatSent(currentCard.isViewStatSent());
+        } else {
+            card.setUuid(UUID.randomUUID().toString());
         }
+        return card;
+    }
+
+    // The same article may appear in several cards, later occurrences get a counter suffix.
+    private static String uniqueContentId(
+            String contentId, HashMap<String, Integer> contentIdCounts) {
+        Integer count = contentIdCounts.get(contentId);
+        contentIdCounts.put(contentId, count == null ? 1 : count + 1);
+        return count == null ? contentId : contentId + "#" + count;
+    }
+
+    // Must be called on the UI thread.
+    @SuppressLint("NotifyDataSetChanged")
+    private void applyFeedCards(List<FeedItemsCard> newsItemsFeedCard) {
+        // The cards ahead of the viewport change with the feed, prefetch them on the next scroll.
+        mLastImagePrefetchPosition = RecyclerView.NO_POSITION;
+        if (mImpressionTracker != null) {
+            mImpressionTracker.onFeedChanged();
+        }
+        List<FeedItemsCard> oldNewsItemsFeedCard = new ArrayList<>(mNewsItemsFeedCard);
+        if (oldNewsItemsFeedCard.isEmpty() || newsItemsFeedCard.isEmpty()) {
+            // The placeholder rows shown for an empty feed change too.
+            mNewsItemsFeedCard.clear();
+            mNewsItemsFeedCard.addAll(newsItemsFeedCard);
+            mNtpAdapter.notifyDataSetChanged();
+            return;
+        }
+        DiffUtil.DiffResult diffResult = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldNewsItemsFeedCard.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return newsItemsFeedCard.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+                return TextUtils.equals(oldNewsItemsFeedCard.get(oldItemPosition).getContentId(),
+                        newsItemsFeedCard.get(newItemPosition).getContentId());
+            }
+
+            @Override
+            public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+                // Unchanged cards keep their instance, see reuseOrInitCard().
+                return oldNewsItemsFeedCard.get(oldItemPosition)
+                        == newsItemsFeedCard.get(newItemPosition);
+            }
+        });
+        // Replaced in place, the list is shared with the adapter and BraveActivity.
+        mNewsItemsFeedCard.clear();
+        mNewsItemsFeedCard.addAll(newsItemsFeedCard);
+        int firstNewsPosition = mNtpAdapter.getFirstNewsPosition();
+        diffResult.dispatchUpdatesTo(new ListUpdateCallback() {
+            @Override
+            public void onInserted(int position, int count) {
+                mNtpAdapter.notifyItemRangeInserted(firstNewsPosition + position, count);
+            }
+
+            @Override
+            public void onRemoved(int position, int count) {
+                mNtpAdapter.notifyItemRangeRemoved(firstNewsPosition + position, count);
+            }
+
+            @Override
+            public void onMoved(int fromPosition, int toPosition) {
+                mNtpAdapter.notifyItemMoved(
+                        firstNewsPosition + fromPosition, firstNewsPosition + toPosition);
+            }
+
+            @Override
+            public void onChanged(int position, int count, Object payload) {
+                mNtpAdapter.notifyItemRangeChanged(firstNewsPosition + position, count, payload);
+            }
+        });
+    }
+
+    // Shows the last persisted feed while the fresh one is fetched.
+    private void showFeedSnapshot() {
+        BraveNewsFeedSnapshot.load(feed -> {
+            if (feed == null || mNtpAdapter == null || !mIsDisplayNewsFeed
+                    || !mNewsItemsFeedCard.isEmpty() || !mNtpAdapter.isNewsLoading()) {
+                return;
+            }
+            List<FeedItemsCard> newsItemsFeedCard = buildFeedCards(feed);
+            if (newsItemsFeedCard.isEmpty()) return;
+            mNtpAdapter.setNewsLoading(false);
+            applyFeedCards(newsItemsFeedCard);
+        });
     }
 
     private void refreshFeed() {
@@ -1086,6 +1103,7 @@ public class BraveNewTabPageLayout
         mIsDisplayNewsFeed = BraveNewsUtils.shouldDisplayNewsFeed();
         if (!isShowNewsOn) {
             mNtpAdapter.setDisplayNewsFeed(false);
+            BraveNewsFeedSnapshot.clear();
 
             if (mNtpAdapter.isNewContent()) {
                 mPrevVisibleNewsCardPosition = mPrevVisibleNewsCardPosition - 1;
@@ -1107,10 +1125,21 @@ public class BraveNewTabPageLayout
         }
     }
 
-    private void processFeed(boolean isNewContent) {
+    private void processFeed(
+            boolean isNewContent, @Nullable List<FeedItemsCard> newsItemsFeedCard) {
         new Handler(Looper.getMainLooper()).post(() -> {
-            mNtpAdapter.setNewsLoading(false);
-            if (mNewsItemsFeedCard != null && mNewsItemsFeedCard.size() > 0) {
+            if (mNtpAdapter.isNewsLoading()) {
+                mNtpAdapter.setNewsLoading(false);
+            }
+            if (newsItemsFeedCard != null) {
+                applyFeedCards(newsItemsFeedCard);
+                try {
+                    BraveActivity.getBraveActivity().setNewsItemsFeedCards(mNewsItemsFeedCard);
+                    BraveActivity.getBraveActivity().setLoadedFeed(true);
+                } catch (BraveActivity.BraveActivityNotFoundException e) {
+                    Log.e(TAG, "getFeed " + e);
+                }
+            } else if (mNewsItemsFeedCard != null && mNewsItemsFeedCard.size() > 0) {
                 mNtpAdapter.notifyItemRangeChanged(
                         mNtpAdapter.getStatsCount() + mNtpAdapter.getTopSitesCount(),
                         mNtpAdapter.getItemCount() - mNtpAdapter.getStatsCount()
@@ -1319,10 +1348,12 @@ public class BraveNewTabPageLayout
             new AsyncTask<List<TopSiteTable>>() {
                 @Override
                 protected List<TopSiteTable> doInBackground() {
-                    for (TopSite topSite : topSites) {
-                        mDatabaseHelper.insertTopSite(topSite);
+                    List<TopSiteTable> topSiteTables = mDatabaseHelper.replaceTopSites(topSites);
+                    // Decodes the icons here, loadTopSites() then reads them from memory.
+                    for (TopSiteTable topSite : topSiteTables) {
+                        NTPUtil.getTopSiteBitmap(topSite.getImagePath());
                     }
-                    return mDatabaseHelper.getAllTopSites();
+                    return topSiteTables;
                 }
 
                 @Override
@@ -1387,12 +1418,7 @@ public class BraveNewTabPageLayout
                     getResources().getColor(R.color.brave_state_time_count_color));
 
             ImageView iconIv = tileView.findViewById(R.id.tile_view_icon);
-            if (NTPUtil.imageCache.get(topSite.getDestinationUrl()) == null) {
-                NTPUtil.imageCache.put(topSite.getDestinationUrl(),
-                        new java.lang.ref.SoftReference(
-                                NTPUtil.getTopSiteBitmap(topSite.getImagePath())));
-            }
-            iconIv.setImageBitmap(NTPUtil.imageCache.get(topSite.getDestinationUrl()).get());
+            iconIv.setImageBitmap(NTPUtil.getCachedTopSiteBitmap(topSite.getImagePath()));
             iconIv.setBackgroundColor(mActivity.getResources().getColor(android.R.color.white));
             iconIv.setClickable(false);
 
@@ -1449,7 +1475,6 @@ public class BraveNewTabPageLayout
                             .setOnMenuItemClickListener(new MenuItem.OnMenuItemClickListener() {
                                 @Override
                                 public boolean onMenuItemClick(MenuItem item) {
-                                    NTPUtil.imageCache.remove(topSite.getDestinationUrl());
                                     mDatabaseHelper.deleteTopSite(topSite.getDestinationUrl());
                                     NTPUtil.addToRemovedTopSite(topSite.getDestinationUrl());
                                     mSuperReferralSitesLayout.removeView(tileView);
@@ -1477,7 +1502,9 @@ public class BraveNewTabPageLayout
 
     @Override
     public void onConnectionError(MojoException e) {
+        mLastImagePrefetchPosition = RecyclerView.NO_POSITION;
         if (mBraveNewsController != null) {
+            NewsImageCache.onControllerClosed(mBraveNewsController);
             mBraveNewsController.close();
         }
         mBraveNewsController = null;
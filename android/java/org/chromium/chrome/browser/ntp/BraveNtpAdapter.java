@@ -94,6 +94,9 @@ public class BraveNtpAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
     private static int TYPE_NEWS_LOADING = 6;
     private static int TYPE_NEWS = 7;
     private static int TYPE_NEWS_NO_CONTENT_SOURCES = 8;
+    // News cards use one view type per card type, so recycled holders keep a layout built for
+    // the same kind of card and only rebind the data.
+    private static final int TYPE_NEWS_CARD_OFFSET = 1000;
 
     private static final int ONE_ITEM_SPACE = 1;
     private static final int TWO_ITEMS_SPACE = 2;
@@ -313,16 +316,15 @@ public class BraveNtpAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
 
         } else if (holder instanceof NewsViewHolder) {
             NewsViewHolder newsViewHolder = (NewsViewHolder) holder;
-            newsViewHolder.linearLayout.removeAllViews();
-            int newsPosition = position - getStatsCount() - getTopSitesCount() - ONE_ITEM_SPACE
-                    - getNewContentCount();
+            int newsPosition = getNewsPosition(position);
             if (newsPosition < mNewsItems.size()) {
                 FeedItemsCard newsItem = mNewsItems.get(newsPosition);
                 if (mBraveNewsController != null) {
-                    new CardBuilderFeedCard(mBraveNewsController, mGlide,
-                            newsViewHolder.linearLayout, mActivity, newsPosition, newsItem,
-                            newsItem.getCardType());
+                    newsViewHolder.bind(mBraveNewsController, mGlide, mActivity, newsPosition,
+                            newsItem);
                 }
+            } else {
+                newsViewHolder.clear();
             }
         } else if (holder instanceof NoSourcesViewHolder) {
             NoSourcesViewHolder noSourcesViewHolder = (NoSourcesViewHolder) holder;
@@ -430,10 +432,23 @@ public class BraveNtpAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
         } else if (!shouldDisplayNewsLoading() && mNewsItems.size() == 0) {
             return TYPE_NEWS_NO_CONTENT_SOURCES;
         } else {
+            int newsPosition = getNewsPosition(position);
+            if (newsPosition >= 0 && newsPosition < mNewsItems.size()) {
+                return TYPE_NEWS_CARD_OFFSET + mNewsItems.get(newsPosition).getCardType();
+            }
             return TYPE_NEWS;
         }
     }
 
+    private int getNewsPosition(int position) {
+        return position - getFirstNewsPosition();
+    }
+
+    /** @return the adapter position of the first news card. */
+    public int getFirstNewsPosition() {
+        return getStatsCount() + getTopSitesCount() + ONE_ITEM_SPACE + getNewContentCount();
+    }
+
     public int getStatsCount() {
         return isStatsEnabled() ? 1 : 0;
     }
@@ -497,6 +512,10 @@ public class BraveNtpAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
         return mTopMarginImageCredit;
     }
 
+    public boolean isNewsLoading() {
+        return mIsNewsLoading;
+    }
+
     public void setNewsLoading(boolean isNewsLoading) {
         mIsNewsLoading = isNewsLoading;
         if (isNewsLoading) {
@@ -680,11 +699,28 @@ public class BraveNtpAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolde
 
     public static class NewsViewHolder extends RecyclerView.ViewHolder {
         LinearLayout linearLayout;
+        CardBuilderFeedCard cardBuilder;
 
         NewsViewHolder(View itemView) {
             super(itemView);
             this.linearLayout = (LinearLayout) itemView.findViewById(R.id.card_layout);
         }
+
+        void bind(BraveNewsController braveNewsController, RequestManager glide,
+                Activity activity, int position, FeedItemsCard newsItem) {
+            if (cardBuilder != null && cardBuilder.getType() == newsItem.getCardType()) {
+                cardBuilder.bind(newsItem, position);
+                return;
+            }
+            linearLayout.removeAllViews();
+            cardBuilder = new CardBuilderFeedCard(braveNewsController, glide, linearLayout,
+                    activity, position, newsItem, newsItem.getCardType());
+        }
+
+        void clear() {
+            linearLayout.removeAllViews();
+            cardBuilder = null;
+        }
     }
 
     public static class NoSourcesViewHolder extends RecyclerView.ViewHolder {
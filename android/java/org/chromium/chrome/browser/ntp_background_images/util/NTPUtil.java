@@ -18,6 +18,7 @@ import android.os.Handler;
 import android.text.SpannableString;
 import android.text.Spanned;
 import android.text.style.ForegroundColorSpan;
+import android.util.LruCache;
 import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
@@ -47,11 +48,12 @@ import org.chromium.chrome.browser.util.PackageUtils;
 import org.chromium.components.user_prefs.UserPrefs;
 import org.chromium.ui.base.DeviceFormFactor;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.ref.SoftReference;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 public class NTPUtil {
@@ -60,8 +62,21 @@ public class NTPUtil {
     private static final int BOTTOM_TOOLBAR_HEIGHT = 56;
     private static final String REMOVED_SITES = "removed_sites";
 
-    public static HashMap<String, SoftReference<Bitmap>> imageCache =
-        new HashMap<String, SoftReference<Bitmap>>();
+    private static final int TOP_SITE_ICON_SIZE_DP = 48;
+    private static final int MAX_TOP_SITE_BITMAP_BYTES = 4 * 1024 * 1024;
+
+    // Top site icons decoded at tile size, keyed by image path and modification time.
+    private static final LruCache<String, Bitmap> sTopSiteBitmapCache =
+            new LruCache<String, Bitmap>(MAX_TOP_SITE_BITMAP_BYTES) {
+                @Override
+                protected int sizeOf(String key, Bitmap bitmap) {
+                    return bitmap.getByteCount();
+                }
+            };
+    // Cache key last resolved for each top site image path. Guarded by itself.
+    private static final Map<String, String> sTopSiteBitmapKeys = new HashMap<>();
+    // Mirror of the REMOVED_SITES preference, null until read. Guarded by NTPUtil.class.
+    private static Set<String> sRemovedTopSites;
 
     public static int checkForNonDisruptiveBanner(NTPImage ntpImage, SponsoredTab sponsoredTab) {
         Context context = ContextUtils.getApplicationContext();
@@ -240,12 +255,16 @@ public class NTPUtil {
     }
 
     public static Bitmap getWallpaperBitmap(NTPImage ntpImage, int layoutWidth, int layoutHeight) {
+        String cacheKey = WallpaperBitmapCache.getKey(ntpImage, layoutWidth, layoutHeight);
+        Bitmap cachedBitmap = WallpaperBitmapCache.get(cacheKey);
+        if (cachedBitmap != null) {
+            return cachedBitmap;
+        }
+
         Context mContext = ContextUtils.getApplicationContext();
 
         BitmapFactory.Options options = new BitmapFactory.Options();
         options.inScaled = false;
-        options.inSampleSize = ImageUtils.calculateInSampleSize(options, layoutWidth, layoutHeight);
-        options.inJustDecodeBounds = false;
 
         Bitmap imageBitmap = null;
         float centerPointX;
@@ -253,38 +272,67 @@ public class NTPUtil {
 
         if (ntpImage instanceof Wallpaper) {
             Wallpaper mWallpaper = (Wallpaper) ntpImage;
+            decodeBounds(mWallpaper.getImagePath(), 0, options, layoutWidth, layoutHeight);
             imageBitmap = getBitmapFromImagePath(mWallpaper.getImagePath(), options);
             if (imageBitmap == null) return null;
 
-            centerPointX = mWallpaper.getFocalPointX() == 0 ? (imageBitmap.getWidth() / 2)
-                                                            : mWallpaper.getFocalPointX();
-            centerPointY = mWallpaper.getFocalPointY() == 0 ? (imageBitmap.getHeight() / 2)
-                                                            : mWallpaper.getFocalPointY();
+            // Focal points are in the coordinates of the full resolution image.
+            centerPointX = mWallpaper.getFocalPointX() == 0
+                    ? (imageBitmap.getWidth() / 2)
+                    : mWallpaper.getFocalPointX() / (float) options.inSampleSize;
+            centerPointY = mWallpaper.getFocalPointY() == 0
+                    ? (imageBitmap.getHeight() / 2)
+                    : mWallpaper.getFocalPointY() / (float) options.inSampleSize;
         } else {
             BackgroundImage mBackgroundImage = (BackgroundImage) ntpImage;
             String imagePath = mBackgroundImage.getImagePath();
 
             // Bundled Background Images
             if (imagePath == null) {
+                decodeBounds(null, mBackgroundImage.getImageDrawable(), options, layoutWidth,
+                        layoutHeight);
                 imageBitmap = BitmapFactory.decodeResource(
                         mContext.getResources(), mBackgroundImage.getImageDrawable(), options);
+                if (imageBitmap == null) return null;
 
-                centerPointX = mBackgroundImage.getCenterPointX();
-                centerPointY = mBackgroundImage.getCenterPointY();
+                centerPointX = mBackgroundImage.getCenterPointX() / (float) options.inSampleSize;
+                centerPointY = mBackgroundImage.getCenterPointY() / (float) options.inSampleSize;
             } else {
+                decodeBounds(imagePath, 0, options, layoutWidth, layoutHeight);
                 imageBitmap = getBitmapFromImagePath(imagePath, options);
                 if (imageBitmap == null) return null;
 
                 centerPointX = mBackgroundImage.getCenterPointX() == 0
                         ? (imageBitmap.getWidth() / 2)
-                        : mBackgroundImage.getCenterPointX();
+                        : mBackgroundImage.getCenterPointX() / (float) options.inSampleSize;
                 centerPointY = mBackgroundImage.getCenterPointY() == 0
                         ? (imageBitmap.getHeight() / 2)
-                        : mBackgroundImage.getCenterPointY();
+                        : mBackgroundImage.getCenterPointY() / (float) options.inSampleSize;
             }
         }
-        return getCalculatedBitmap(
+        Bitmap wallpaperBitmap = getCalculatedBitmap(
                 imageBitmap, centerPointX, centerPointY, layoutWidth, layoutHeight);
+        WallpaperBitmapCache.put(cacheKey, wallpaperBitmap);
+        return wallpaperBitmap;
+    }
+
+    /**
+     * Decodes only the image bounds from {@code imagePath}, or from the {@code imageDrawable}
+     * resource when the path is null, and sets {@code options.inSampleSize} for the layout size.
+     */
+    private static void decodeBounds(String imagePath, int imageDrawable,
+            BitmapFactory.Options options, int layoutWidth, int layoutHeight) {
+        options.inJustDecodeBounds = true;
+        if (imagePath == null) {
+            BitmapFactory.decodeResource(
+                    ContextUtils.getApplicationContext().getResources(), imageDrawable, options);
+        } else {
+            getBitmapFromImagePath(imagePath, options);
+        }
+        options.inSampleSize = options.outWidth > 0 && options.outHeight > 0
+                ? ImageUtils.calculateInSampleSize(options, layoutWidth, layoutHeight)
+                : 1;
+        options.inJustDecodeBounds = false;
     }
 
     private static Bitmap getBitmapFromImagePath(String imagePath, BitmapFactory.Options options) {
@@ -393,55 +441,77 @@ public class NTPUtil {
         }
     }
 
+    /**
+     * Returns the top site icon decoded at tile size. The file is only decoded again when its
+     * modification time changes. Must be called off the UI thread.
+     */
     public static Bitmap getTopSiteBitmap(String iconPath) {
-        Context mContext = ContextUtils.getApplicationContext();
-        InputStream inputStream = null;
-        Bitmap topSiteIcon = null;
+        String key = iconPath + "@" + new File(iconPath).lastModified();
+        synchronized (sTopSiteBitmapKeys) {
+            sTopSiteBitmapKeys.put(iconPath, key);
+        }
+        Bitmap topSiteIcon = sTopSiteBitmapCache.get(key);
+        if (topSiteIcon != null) {
+            return topSiteIcon;
+        }
+
+        Context context = ContextUtils.getApplicationContext();
+        int iconSize = dpToPx(context, TOP_SITE_ICON_SIZE_DP);
         try {
-            Uri imageFileUri = Uri.parse("file://" + iconPath);
-            inputStream = mContext.getContentResolver().openInputStream(imageFileUri);
-            topSiteIcon = BitmapFactory.decodeStream(inputStream);
-            inputStream.close();
-        } catch (IOException exc) {
-            exc.printStackTrace();
-            Log.e(TAG, "getTopSiteBitmap IOException: " + exc.getMessage());
-            topSiteIcon = null;
-        } finally {
-            try {
-                if (inputStream != null) {
-                    inputStream.close();
-                }
-            } catch (IOException exception) {
-                exception.printStackTrace();
-                Log.e(TAG, "getTopSiteBitmap IOException in finally: " + exception.getMessage());
-                topSiteIcon = null;
-            }
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inJustDecodeBounds = true;
+            BitmapFactory.decodeFile(iconPath, options);
+            options.inSampleSize = ImageUtils.calculateInSampleSize(options, iconSize, iconSize);
+            options.inJustDecodeBounds = false;
+            topSiteIcon = BitmapFactory.decodeFile(iconPath, options);
+        } catch (OutOfMemoryError exc) {
+            Log.e(TAG, "getTopSiteBitmap OutOfMemoryError: " + exc.getMessage());
+            return null;
+        }
+        if (topSiteIcon == null) {
+            Log.e(TAG, "getTopSiteBitmap failed to decode " + iconPath);
+            return null;
         }
+        sTopSiteBitmapCache.put(key, topSiteIcon);
         return topSiteIcon;
     }
 
-    private static Set<String> getRemovedTopSiteUrls() {
-        SharedPreferences mSharedPreferences = ContextUtils.getAppSharedPreferences();
-        return mSharedPreferences.getStringSet(REMOVED_SITES, new HashSet<String>());
+    /**
+     * Returns the top site icon last loaded by {@link #getTopSiteBitmap} for this path without
+     * touching the disk, or decodes it if it isn't cached.
+     */
+    public static Bitmap getCachedTopSiteBitmap(String iconPath) {
+        String key;
+        synchronized (sTopSiteBitmapKeys) {
+            key = sTopSiteBitmapKeys.get(iconPath);
+        }
+        Bitmap topSiteIcon = key != null ? sTopSiteBitmapCache.get(key) : null;
+        return topSiteIcon != null ? topSiteIcon : getTopSiteBitmap(iconPath);
     }
 
-    public static boolean isInRemovedTopSite(String url) {
-        Set<String> urlSet = getRemovedTopSiteUrls();
-        if (urlSet.contains(url)) {
-            return true;
+    private static synchronized Set<String> getRemovedTopSiteUrls() {
+        if (sRemovedTopSites == null) {
+            SharedPreferences sharedPreferences = ContextUtils.getAppSharedPreferences();
+            // The returned set must not be modified, keep a copy.
+            sRemovedTopSites = new HashSet<>(
+                    sharedPreferences.getStringSet(REMOVED_SITES, new HashSet<String>()));
         }
-        return false;
+        return sRemovedTopSites;
+    }
+
+    public static synchronized boolean isInRemovedTopSite(String url) {
+        return getRemovedTopSiteUrls().contains(url);
     }
 
-    public static void addToRemovedTopSite(String url) {
+    public static synchronized void addToRemovedTopSite(String url) {
         Set<String> urlSet = getRemovedTopSiteUrls();
-        if (!urlSet.contains(url)) {
-            urlSet.add(url);
+        if (!urlSet.add(url)) {
+            return;
         }
 
         SharedPreferences mSharedPreferences = ContextUtils.getAppSharedPreferences();
         SharedPreferences.Editor sharedPreferencesEditor = mSharedPreferences.edit();
-        sharedPreferencesEditor.putStringSet(REMOVED_SITES, urlSet);
+        sharedPreferencesEditor.putStringSet(REMOVED_SITES, new HashSet<>(urlSet));
         sharedPreferencesEditor.apply();
     }
 
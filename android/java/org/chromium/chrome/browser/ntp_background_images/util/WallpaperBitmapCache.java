@@ -0,0 +1,162 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.ntp_background_images.util;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+import org.chromium.base.BuildInfo;
+import org.chromium.base.ContextUtils;
+import org.chromium.base.Log;
+import org.chromium.chrome.browser.ntp_background_images.model.BackgroundImage;
+import org.chromium.chrome.browser.ntp_background_images.model.NTPImage;
+import org.chromium.chrome.browser.ntp_background_images.model.Wallpaper;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Cache of fully processed (scaled, cropped and gradient blended) NTP wallpapers, keyed by
+ * image id, viewport size and orientation. Keeps an in-memory LRU and a processed copy on disk, so
+ * opening a new tab does not decode and blend the same background again.
+ */
+public class WallpaperBitmapCache {
+    private static final String TAG = "WallpaperCache";
+
+    private static final String CACHE_DIR = "ntp_wallpapers";
+    private static final int MAX_DISK_ENTRIES = 6;
+    private static final int MAX_MEMORY_BYTES = 32 * 1024 * 1024;
+    private static final int JPEG_QUALITY = 95;
+
+    private static final LruCache<String, Bitmap> sMemoryCache =
+            new LruCache<String, Bitmap>(getMemoryCacheSize()) {
+                @Override
+                protected int sizeOf(String key, Bitmap bitmap) {
+                    return bitmap.getByteCount();
+                }
+            };
+
+    private static int getMemoryCacheSize() {
+        return (int) Math.min(MAX_MEMORY_BYTES, Runtime.getRuntime().maxMemory() / 8);
+    }
+
+    /**
+     * @return the cache key for the processed wallpaper, or null if the image can't be
+     *         identified.
+     */
+    public static String getKey(NTPImage ntpImage, int layoutWidth, int layoutHeight) {
+        String imageId;
+        if (ntpImage instanceof Wallpaper) {
+            Wallpaper wallpaper = (Wallpaper) ntpImage;
+            imageId = getFileImageId(wallpaper.getImagePath()) + ":" + wallpaper.getFocalPointX()
+                    + "," + wallpaper.getFocalPointY();
+        } else if (ntpImage instanceof BackgroundImage) {
+            BackgroundImage backgroundImage = (BackgroundImage) ntpImage;
+            String imagePath = backgroundImage.getImagePath();
+            if (imagePath == null) {
+                // Resource ids are only stable within one build.
+                imageId = "res:" + backgroundImage.getImageDrawable() + ":"
+                        + BuildInfo.getInstance().versionCode;
+            } else {
+                imageId = getFileImageId(imagePath);
+            }
+            imageId += ":" + backgroundImage.getCenterPointX() + ","
+                    + backgroundImage.getCenterPointY();
+        } else {
+            return null;
+        }
+        String orientation = layoutWidth > layoutHeight ? "landscape" : "portrait";
+        return imageId + ":" + layoutWidth + "x" + layoutHeight + ":" + orientation;
+    }
+
+    private static String getFileImageId(String imagePath) {
+        // Include the modification time so an updated image at the same path is not served stale.
+        return "file:" + imagePath + "@" + new File(imagePath).lastModified();
+    }
+
+    /** Returns the processed wallpaper from memory or disk. Must be called off the UI thread. */
+    public static Bitmap get(String key) {
+        if (key == null) return null;
+        Bitmap bitmap = sMemoryCache.get(key);
+        if (bitmap != null && !bitmap.isRecycled()) {
+            return bitmap;
+        }
+        File file = getCacheFile(key);
+        if (file == null || !file.exists()) {
+            return null;
+        }
+        try {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inScaled = false;
+            bitmap = BitmapFactory.decodeFile(file.getPath(), options);
+        } catch (OutOfMemoryError exc) {
+            Log.e(TAG, "get: OutOfMemoryError: " + exc.getMessage());
+            return null;
+        }
+        if (bitmap != null) {
+            sMemoryCache.put(key, bitmap);
+            file.setLastModified(System.currentTimeMillis());
+        }
+        return bitmap;
+    }
+
+    /** Stores the processed wallpaper in memory and on disk. Must be called off the UI thread. */
+    public static void put(String key, Bitmap bitmap) {
+        if (key == null || bitmap == null) return;
+        sMemoryCache.put(key, bitmap);
+        File file = getCacheFile(key);
+        if (file == null) return;
+        File tmpFile = new File(file.getPath() + ".tmp");
+        try (FileOutputStream outputStream = new FileOutputStream(tmpFile)) {
+            bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, outputStream);
+        } catch (IOException exc) {
+            Log.e(TAG, "put: IOException: " + exc.getMessage());
+            tmpFile.delete();
+            return;
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+            return;
+        }
+        trimDiskCache(file.getParentFile());
+    }
+
+    private static File getCacheFile(String key) {
+        File dir = new File(ContextUtils.getApplicationContext().getCacheDir(), CACHE_DIR);
+        if (!dir.exists() && !dir.mkdirs()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder fileName = new StringBuilder();
+            for (byte b : hash) {
+                fileName.append(String.format("%02x", b));
+            }
+            return new File(dir, fileName.append(".jpg").toString());
+        } catch (NoSuchAlgorithmException exc) {
+            return null;
+        }
+    }
+
+    private static void trimDiskCache(File dir) {
+        File[] files = dir.listFiles((file) -> file.getName().endsWith(".jpg"));
+        if (files == null || files.length <= MAX_DISK_ENTRIES) {
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < files.length - MAX_DISK_ENTRIES; i++) {
+            files[i].delete();
+        }
+    }
+}
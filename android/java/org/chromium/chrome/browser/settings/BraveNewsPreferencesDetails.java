@@ -49,6 +49,9 @@ import java.util.Map;
 
 public class BraveNewsPreferencesDetails extends BravePreferenceFragment
         implements BraveNewsPreferencesListener, ConnectionErrorHandler {
+    // Waits for typing to pause before searching.
+    private static final long SEARCH_DEBOUNCE_MS = 150;
+
     private RecyclerView mRecyclerView;
 
     private BraveNewsPreferencesTypeAdapter mAdapter;
@@ -57,6 +60,7 @@ public class BraveNewsPreferencesDetails extends BravePreferenceFragment
     private String mBraveNewsPreferencesType;
     private String mSearch = "";
     private HashMap<String, String> mFeedSearchResultItemFollowMap = new HashMap<>();
+    private final Runnable mSearchRunnable = this::search;
 
     @Override
     public View onCreateView(
@@ -254,8 +258,9 @@ public class BraveNewsPreferencesDetails extends BravePreferenceFragment
                 boolean queryHasChanged = mSearch == null ? query != null && !query.isEmpty()
                                                           : !mSearch.equals(query);
                 mSearch = query;
+                mRecyclerView.removeCallbacks(mSearchRunnable);
                 if (queryHasChanged && mSearch.length() > 0) {
-                    search();
+                    mRecyclerView.postDelayed(mSearchRunnable, SEARCH_DEBOUNCE_MS);
                 } else if (mSearch.length() == 0) {
                     mAdapter.notifyItemRangeRemoved(0, mAdapter.getItemCount());
                     mAdapter.setItems(new ArrayList<Channel>(), new ArrayList<Publisher>(), null,
@@ -266,6 +271,7 @@ public class BraveNewsPreferencesDetails extends BravePreferenceFragment
     }
 
     private void search() {
+        if (mSearch == null || mSearch.isEmpty()) return;
         List<Channel> channelList = BraveNewsUtils.searchChannel(mSearch);
         List<Publisher> publisherList = BraveNewsUtils.searchPublisher(mSearch);
         String feedUrl = mSearch;
@@ -309,6 +315,9 @@ public class BraveNewsPreferencesDetails extends BravePreferenceFragment
     @Override
     public void onDestroy() {
         super.onDestroy();
+        if (mRecyclerView != null) {
+            mRecyclerView.removeCallbacks(mSearchRunnable);
+        }
         if (mBraveNewsController != null) {
             mBraveNewsController.close();
         }
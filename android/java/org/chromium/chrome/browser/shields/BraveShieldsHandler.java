@@ -19,7 +19,6 @@ import android.os.Build;
 import android.text.SpannableString;
 import android.text.method.ScrollingMovementMethod;
 import android.text.style.StyleSpan;
-import android.util.Pair;
 import android.view.ContextThemeWrapper;
 import android.view.LayoutInflater;
 import android.view.Surface;
@@ -64,10 +63,14 @@ import org.chromium.url.GURL;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Object responsible for handling the creation, showing, hiding of the BraveShields menu.
@@ -76,20 +79,26 @@ public class BraveShieldsHandler implements BraveRewardsHelper.LargeIconReadyCal
     private static final String TAG = "BraveShieldsHandler";
     private static final int URL_SPEC_MAX_LINES = 3;
 
+    // Written from the network event path and read by the panel UI, so all fields are safe for
+    // concurrent access without a shared lock.
     private static class BlockersInfo {
-        public BlockersInfo() {
-            mAdsBlocked = 0;
-            mTrackersBlocked = 0;
-            mScriptsBlocked = 0;
-            mFingerprintsBlocked = 0;
-            mBlockerNames = new ArrayList<String>();
+        public final AtomicInteger mAdsBlocked = new AtomicInteger();
+        public final AtomicInteger mTrackersBlocked = new AtomicInteger();
+        public final AtomicInteger mScriptsBlocked = new AtomicInteger();
+        public final AtomicInteger mFingerprintsBlocked = new AtomicInteger();
+        // The set deduplicates names, the list keeps them in insertion order for display.
+        private final Set<String> mBlockerNameSet = ConcurrentHashMap.newKeySet();
+        private final List<String> mBlockerNames = new CopyOnWriteArrayList<>();
+
+        public void addBlockerName(String blockerName) {
+            if (mBlockerNameSet.add(blockerName)) {
+                mBlockerNames.add(blockerName);
+            }
         }
 
-        public int mAdsBlocked;
-        public int mTrackersBlocked;
-        public int mScriptsBlocked;
-        public int mFingerprintsBlocked;
-        public ArrayList<String> mBlockerNames;
+        public ArrayList<String> getBlockerNames() {
+            return new ArrayList<String>(mBlockerNames);
+        }
     }
 
     private Context mContext;
@@ -97,9 +106,9 @@ public class BraveShieldsHandler implements BraveRewardsHelper.LargeIconReadyCal
     private AnimatorSet mMenuItemEnterAnimator;
     private BraveShieldsMenuObserver mMenuObserver;
     private View mHardwareButtonMenuAnchor;
-    private final Map<Integer, BlockersInfo> mTabsStat =
-        Collections.synchronizedMap(new HashMap<Integer, BlockersInfo>());
-    private ArrayList<Pair<String, String>> mResourceToCompanyNameList = new ArrayList<>();
+    private final Map<Integer, BlockersInfo> mTabsStat = new ConcurrentHashMap<>();
+    private volatile TrackerCompanyResolver mTrackerCompanyResolver =
+            TrackerCompanyResolver.empty();
     private OnCheckedChangeListener mBraveShieldsAdsTrackingChangeListener;
     private SwitchCompat mBraveShieldsBlockingScriptsSwitch;
     private OnCheckedChangeListener mBraveShieldsBlockingScriptsChangeListener;
@@ -165,6 +174,7 @@ public class BraveShieldsHandler implements BraveRewardsHelper.LargeIconReadyCal
                 if (jsonString == null) return;
                 JSONObject obj = new JSONObject(jsonString);
                 JSONObject entities = obj.getJSONObject("entities");
+                Map<String, String> domainToCompany = new HashMap<>();
                 Iterator<String> keysItr = entities.keys();
                 while (keysItr.hasNext()) {
                     String key = keysItr.next();
@@ -173,9 +183,11 @@ public class BraveShieldsHandler implements BraveRewardsHelper.LargeIconReadyCal
                     JSONArray jsonResources = ((JSONObject) value).getJSONArray("resources");
 
                     for (int i = 0; i < jsonResources.length(); i++) {
-                        mResourceToCompanyNameList.add(new Pair(jsonResources.getString(i), key));
+                        TrackerCompanyResolver.addDomain(
+                                domainToCompany, jsonResources.getString(i), key);
                     }
                 }
+                mTrackerCompanyResolver = new TrackerCompanyResolver(domainToCompany);
                 isDisconnectEntityLoaded = true;
             } catch (JSONException exception) {
                 exception.printStackTrace();
@@ -199,52 +211,38 @@ public class BraveShieldsHandler implements BraveRewardsHelper.LargeIconReadyCal
     }
 
     public void addStat(int tabId, String blockType, String subResource) {
-        if (!mTabsStat.containsKey(tabId)) {
-            mTabsStat.put(tabId, new BlockersInfo());
-        }
-        BlockersInfo blockersInfo = mTabsStat.get(tabId);
+        BlockersInfo blockersInfo = mTabsStat.computeIfAbsent(tabId, id -> new BlockersInfo());
         if (blockType.equals(BraveShieldsContentSettings.RESOURCE_IDENTIFIER_ADS)) {
-            blockersInfo.mAdsBlocked++;
+            blockersInfo.mAdsBlocked.incrementAndGet();
             if (!BraveShieldsUtils.hasShieldsTooltipShown(BraveShieldsUtils.PREF_SHIELDS_TOOLTIP)) {
-                blockersInfo = addBlockerNames(blockersInfo, subResource);
+                addBlockerNames(blockersInfo, subResource);
             }
         } else if (blockType.equals(BraveShieldsContentSettings.RESOURCE_IDENTIFIER_TRACKERS)) {
-            blockersInfo.mTrackersBlocked++;
+            blockersInfo.mTrackersBlocked.incrementAndGet();
             if (!BraveShieldsUtils.hasShieldsTooltipShown(BraveShieldsUtils.PREF_SHIELDS_TOOLTIP)) {
-                blockersInfo = addBlockerNames(blockersInfo, subResource);
+                addBlockerNames(blockersInfo, subResource);
             }
         } else if (blockType.equals(BraveShieldsContentSettings.RESOURCE_IDENTIFIER_JAVASCRIPTS)) {
-            blockersInfo.mScriptsBlocked++;
+            blockersInfo.mScriptsBlocked.incrementAndGet();
         } else if (blockType.equals(
                            BraveShieldsContentSettings.RESOURCE_IDENTIFIER_FINGERPRINTING)) {
-            blockersInfo.mFingerprintsBlocked++;
+            blockersInfo.mFingerprintsBlocked.incrementAndGet();
         }
     }
 
-    private BlockersInfo addBlockerNames(BlockersInfo blockersInfo, String subResource) {
+    private void addBlockerNames(BlockersInfo blockersInfo, String subResource) {
         GURL gurl = new GURL(subResource);
         if (!GURL.isEmptyOrInvalid(gurl)) {
-            String companyName = getBlockerCompanyName(gurl);
-            if (!blockersInfo.mBlockerNames.contains(companyName)) {
-                blockersInfo.mBlockerNames.add(companyName);
-            }
+            blockersInfo.addBlockerName(getBlockerCompanyName(gurl));
         }
-        return blockersInfo;
     }
 
     private String getBlockerCompanyName(GURL gurl) {
-        for (Pair<String, String> resourceToCompanyName : mResourceToCompanyNameList) {
-            if (gurl.domainIs(resourceToCompanyName.first)) {
-                return resourceToCompanyName.second;
-            }
-        }
-        return gurl.getHost();
+        String companyName = mTrackerCompanyResolver.getCompanyName(gurl.getHost());
+        return companyName != null ? companyName : gurl.getHost();
     }
 
     public void removeStat(int tabId) {
-        if (!mTabsStat.containsKey(tabId)) {
-            return;
-        }
         mTabsStat.remove(tabId);
     }
 
@@ -380,41 +378,38 @@ public class BraveShieldsHandler implements BraveRewardsHelper.LargeIconReadyCal
     }
 
     public void updateValues(int tabId) {
-        if (!mTabsStat.containsKey(tabId)) {
+        BlockersInfo blockersInfo = mTabsStat.get(tabId);
+        if (blockersInfo == null) {
             return;
         }
-        BlockersInfo blockersInfo = mTabsStat.get(tabId);
         updateValues(
-                blockersInfo.mAdsBlocked + blockersInfo.mTrackersBlocked,
-                blockersInfo.mScriptsBlocked,
-                blockersInfo.mFingerprintsBlocked);
+                blockersInfo.mAdsBlocked.get() + blockersInfo.mTrackersBlocked.get(),
+                blockersInfo.mScriptsBlocked.get(),
+                blockersInfo.mFingerprintsBlocked.get());
     }
 
     public int getAdsBlockedCount(int tabId) {
-        if (!mTabsStat.containsKey(tabId)) {
+        BlockersInfo blockersInfo = mTabsStat.get(tabId);
+        if (blockersInfo == null) {
             return 0;
         }
-
-        BlockersInfo blockersInfo = mTabsStat.get(tabId);
-        return blockersInfo.mAdsBlocked;
+        return blockersInfo.mAdsBlocked.get();
     }
 
     public int getTrackersBlockedCount(int tabId) {
-        if (!mTabsStat.containsKey(tabId)) {
+        BlockersInfo blockersInfo = mTabsStat.get(tabId);
+        if (blockersInfo == null) {
             return 0;
         }
-
-        BlockersInfo blockersInfo = mTabsStat.get(tabId);
-        return blockersInfo.mTrackersBlocked;
+        return blockersInfo.mTrackersBlocked.get();
     }
 
     public ArrayList<String> getBlockerNamesList(int tabId) {
-        if (!mTabsStat.containsKey(tabId)) {
+        BlockersInfo blockersInfo = mTabsStat.get(tabId);
+        if (blockersInfo == null) {
             return new ArrayList<String>();
         }
-
-        BlockersInfo blockersInfo = mTabsStat.get(tabId);
-        return blockersInfo.mBlockerNames;
+        return blockersInfo.getBlockerNames();
     }
 
     public void updateValues(int adsAndTrackers, int scriptsBlocked, int fingerprintsBlocked) {
@@ -0,0 +1,76 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.shields;
+
+import android.util.LruCache;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Maps blocked resource hosts to the company that owns them. Lookups walk the successive parent
+ * domains of a host against a hash map, so the cost depends on the number of labels in the host
+ * rather than on the size of the entity list.
+ */
+public class TrackerCompanyResolver {
+    private static final int RECENT_HOSTS_CACHE_SIZE = 128;
+
+    private final Map<String, String> mDomainToCompany;
+    private final LruCache<String, String> mRecentHosts =
+            new LruCache<String, String>(RECENT_HOSTS_CACHE_SIZE);
+
+    public TrackerCompanyResolver(Map<String, String> domainToCompany) {
+        mDomainToCompany = domainToCompany;
+    }
+
+    /**
+     * Adds a domain to company mapping to the builder map. If the same domain is listed more than
+     * once, the earlier entry wins.
+     */
+    public static void addDomain(Map<String, String> domainToCompany, String domain,
+            String company) {
+        if (domain == null || domain.isEmpty()) return;
+        String normalized = domain.toLowerCase(Locale.ROOT);
+        if (!domainToCompany.containsKey(normalized)) {
+            domainToCompany.put(normalized, company);
+        }
+    }
+
+    public static TrackerCompanyResolver empty() {
+        return new TrackerCompanyResolver(new HashMap<String, String>());
+    }
+
+    /**
+     * @return the company owning {@code host}, or else its most specific parent domain in the
+     *         entity list, or {@code null} if neither is listed.
+     */
+    public String getCompanyName(String host) {
+        if (host == null || host.isEmpty()) return null;
+        String cached = mRecentHosts.get(host);
+        if (cached != null) {
+            return cached.isEmpty() ? null : cached;
+        }
+        String company = lookup(host.toLowerCase(Locale.ROOT));
+        // Misses are cached as an empty string, since LruCache does not accept null values.
+        mRecentHosts.put(host, company == null ? "" : company);
+        return company;
+    }
+
+    private String lookup(String host) {
+        int start = 0;
+        while (start < host.length()) {
+            String company = mDomainToCompany.get(start == 0 ? host : host.substring(start));
+            if (company != null) {
+                return company;
+            }
+            int nextDot = host.indexOf('.', start);
+            if (nextDot < 0) break;
+            start = nextDot + 1;
+        }
+        return null;
+    }
+}
@@ -61,24 +61,20 @@ import org.chromium.base.BraveReflectionUtil;
 import org.chromium.base.ContextUtils;
 import org.chromium.base.Log;
 import org.chromium.base.MathUtils;
-import org.chromium.base.ThreadUtils;
-import org.chromium.base.task.AsyncTask;
 import org.chromium.chrome.R;
 import org.chromium.chrome.browser.BraveRelaunchUtils;
 import org.chromium.chrome.browser.BraveRewardsHelper;
 import org.chromium.chrome.browser.BraveRewardsNativeWorker;
 import org.chromium.chrome.browser.BraveRewardsObserver;
 import org.chromium.chrome.browser.app.BraveActivity;
-import org.chromium.chrome.browser.brave_stats.BraveStatsUtil;
 import org.chromium.chrome.browser.crypto_wallet.controller.DAppsWalletController;
 import org.chromium.chrome.browser.custom_layout.popup_window_tooltip.PopupWindowTooltip;
 import org.chromium.chrome.browser.customtabs.CustomTabActivity;
 import org.chromium.chrome.browser.customtabs.features.toolbar.CustomTabToolbar;
 import org.chromium.chrome.browser.dialogs.BraveAdsSignupDialog;
 import org.chromium.chrome.browser.flags.ChromeFeatureList;
-import org.chromium.chrome.browser.local_database.BraveStatsTable;
+import org.chromium.chrome.browser.local_database.BraveStatsWriteQueue;
 import org.chromium.chrome.browser.local_database.DatabaseHelper;
-import org.chromium.chrome.browser.local_database.SavedBandwidthTable;
 import org.chromium.chrome.browser.notifications.BraveNotificationWarningDialog;
 import org.chromium.chrome.browser.notifications.BravePermissionUtils;
 import org.chromium.chrome.browser.notifications.RewardsYouAreNotEarningDialog;
@@ -177,6 +173,14 @@ public abstract class BraveToolbarLayoutImpl extends ToolbarLayout
     private FrameLayout mShieldsLayout;
     private FrameLayout mRewardsLayout;
     private BraveShieldsHandler mBraveShieldsHandler;
+    private boolean mShieldsUpdateScheduled;
+    private int mPendingShieldsUpdateTabId;
+    private final Runnable mShieldsUpdateRunnable = () -> {
+        mShieldsUpdateScheduled = false;
+        if (mBraveShieldsHandler != null) {
+            mBraveShieldsHandler.updateValues(mPendingShieldsUpdateTabId);
+        }
+    };
     private TabModelSelectorTabObserver mTabModelSelectorTabObserver;
     private TabModelSelectorTabModelObserver mTabModelSelectorTabModelObserver;
     private BraveRewardsNativeWorker mBraveRewardsNativeWorker;
@@ -219,6 +223,8 @@ public abstract class BraveToolbarLayoutImpl extends ToolbarLayout
         if (mBraveShieldsContentSettings != null) {
             mBraveShieldsContentSettings.removeObserver(mBraveShieldsContentSettingsObserver);
         }
+        removeCallbacks(mShieldsUpdateRunnable);
+        mShieldsUpdateScheduled = false;
         if (mPlaylistService != null) {
             mPlaylistService.close();
         }
@@ -325,7 +331,7 @@ public abstract class BraveToolbarLayoutImpl extends ToolbarLayout
                 if (currentTab == null || currentTab.getId() != tabId) {
                     return;
                 }
-                mBraveShieldsHandler.updateValues(tabId);
+                scheduleShieldsValuesUpdate(tabId);
                 if (!isIncognito() && OnboardingPrefManager.getInstance().isBraveStatsEnabled()
                         && (blockType.equals(BraveShieldsContentSettings.RESOURCE_IDENTIFIER_ADS)
                                 || blockType.equals(BraveShieldsContentSettings
@@ -1007,53 +1013,25 @@ public abstract class BraveToolbarLayoutImpl extends ToolbarLayout
         dialog.show();
     }
 
+    /**
+     * Collapses any number of block events into at most one Shields panel refresh per frame. The
+     * refresh reads the counters when it runs, so the last scheduled frame shows the exact count.
+     */
+    private void scheduleShieldsValuesUpdate(int tabId) {
+        mPendingShieldsUpdateTabId = tabId;
+        if (mShieldsUpdateScheduled) {
+            return;
+        }
+        mShieldsUpdateScheduled = true;
+        postOnAnimation(mShieldsUpdateRunnable);
+    }
+
     private void addSavedBandwidthToDb(long savings) {
-        new AsyncTask<Void>() {
-            @Override
-            protected Void doInBackground() {
-                try {
-                    SavedBandwidthTable savedBandwidthTable = new SavedBandwidthTable(
-                            savings, BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
-                    long rowId = mDatabaseHelper.insertSavedBandwidth(savedBandwidthTable);
-                } catch (Exception e) {
-                    // Do nothing if url is invalid.
-                    // Just return w/o showing shields popup.
-                    return null;
-                }
-                return null;
-            }
-            @Override
-            protected void onPostExecute(Void result) {
-                assert ThreadUtils.runningOnUiThread();
-                if (isCancelled()) return;
-            }
-        }.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        BraveStatsWriteQueue.getInstance().addSavedBandwidth(savings);
     }
 
     private void addStatsToDb(String statType, String statSite, String url) {
-        new AsyncTask<Void>() {
-            @Override
-            protected Void doInBackground() {
-                try {
-                    URL urlObject = new URL(url);
-                    URL siteObject = new URL(statSite);
-                    BraveStatsTable braveStatsTable = new BraveStatsTable(url, urlObject.getHost(),
-                            statType, statSite, siteObject.getHost(),
-                            BraveStatsUtil.getCalculatedDate("yyyy-MM-dd", 0));
-                    long rowId = mDatabaseHelper.insertStats(braveStatsTable);
-                } catch (Exception e) {
-                    // Do nothing if url is invalid.
-                    // Just return w/o showing shields popup.
-                    return null;
-                }
-                return null;
-            }
-            @Override
-            protected void onPostExecute(Void result) {
-                assert ThreadUtils.runningOnUiThread();
-                if (isCancelled()) return;
-            }
-        }.executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+        BraveStatsWriteQueue.getInstance().addStat(statType, statSite, url);
     }
 
     public boolean isWalletIconVisible() {
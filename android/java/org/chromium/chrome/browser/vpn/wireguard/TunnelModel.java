@@ -22,7 +22,8 @@ public class TunnelModel implements Tunnel {
         return state;
     }
 
-    private Tunnel.State state;
+    // Set by the backend thread, read by the service on the main thread.
+    private volatile Tunnel.State state;
 
     interface TunnelStateUpdateListener {
         void onTunnelStateUpdated(TunnelModel tunnelModel);
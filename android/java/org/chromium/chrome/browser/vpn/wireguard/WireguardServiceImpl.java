@@ -9,10 +9,13 @@ import android.app.Notification;
 import android.app.NotificationManager;
 import android.app.PendingIntent;
 import android.app.Service;
+import android.content.BroadcastReceiver;
 import android.content.Context;
 import android.content.Intent;
+import android.content.IntentFilter;
 import android.os.Binder;
 import android.os.IBinder;
+import android.os.PowerManager;
 
 import androidx.annotation.Nullable;
 import androidx.core.app.NotificationCompat;
@@ -45,7 +48,27 @@ public class WireguardServiceImpl
     private Timer mVpnRecordStatisticsTimer;
     private Timer mRecordDaysUsedTimer;
     private static final int BRAVE_VPN_NOTIFICATION_ID = 801;
+    // Statistics are polled at the minimum interval while the counters change, and the interval
+    // doubles up to the maximum while they don't.
+    private static final long MIN_STATISTICS_INTERVAL_MS = 1000;
+    private static final long MAX_STATISTICS_INTERVAL_MS = 8000;
     private Context mContext = ContextUtils.getApplicationContext();
+    // Guarded by this. Reused for every notification update.
+    private NotificationCompat.Builder mNotificationBuilder;
+    private String mNotificationText;
+    private String mTransferFormat;
+    private long mStatisticsIntervalMs = MIN_STATISTICS_INTERVAL_MS;
+    // Nobody sees the notification while the screen is off, so polling stops until it is on.
+    private final BroadcastReceiver mScreenStateReceiver = new BroadcastReceiver() {
+        @Override
+        public void onReceive(Context context, Intent intent) {
+            if (Intent.ACTION_SCREEN_OFF.equals(intent.getAction())) {
+                cancelVpnStatisticsTimer();
+            } else if (Intent.ACTION_SCREEN_ON.equals(intent.getAction()) && isTunnelUp()) {
+                updateVpnStatisticsTimer();
+            }
+        }
+    };
 
     class LocalBinder extends Binder {
         WireguardServiceImpl getService() {
@@ -71,6 +94,10 @@ public class WireguardServiceImpl
         } catch (Exception e) {
             Log.e("WireguardServiceImpl::onCreate", e.getMessage());
         }
+        IntentFilter screenStateFilter = new IntentFilter(Intent.ACTION_SCREEN_ON);
+        screenStateFilter.addAction(Intent.ACTION_SCREEN_OFF);
+        ContextUtils.registerProtectedBroadcastReceiver(
+                mContext, mScreenStateReceiver, screenStateFilter);
     }
 
     @Override
@@ -93,12 +120,23 @@ public class WireguardServiceImpl
         Config config = WireguardConfigUtils.loadConfig(mContext);
         mTunnelModel = TunnelModel.createTunnel(config, this);
         mBackend.setState(mTunnelModel, Tunnel.State.UP, config);
-        updateVpnStatisticsTimer();
+        PowerManager powerManager = (PowerManager) mContext.getSystemService(Context.POWER_SERVICE);
+        if (powerManager == null || powerManager.isInteractive()) {
+            // Otherwise polling starts once the screen is on.
+            updateVpnStatisticsTimer();
+        }
         recordSessionTimes();
         updateRecordSessionTimesTimer();
     }
 
-    private Notification getBraveVpnNotification(String notificationText) {
+    private synchronized Notification getBraveVpnNotification(String notificationText) {
+        mNotificationText = notificationText;
+        if (mNotificationBuilder != null) {
+            return mNotificationBuilder.setContentText(notificationText)
+                    .setStyle(new NotificationCompat.BigTextStyle().bigText(notificationText))
+                    .build();
+        }
+
         Intent disconnectVpnIntent = new Intent(mContext, DisconnectVpnBroadcastReceiver.class);
         disconnectVpnIntent.setAction(DisconnectVpnBroadcastReceiver.DISCONNECT_VPN_ACTION);
         PendingIntent disconnectVpnPendingIntent =
@@ -120,15 +158,22 @@ public class WireguardServiceImpl
                         mContext.getResources().getString(R.string.disconnect),
                         disconnectVpnPendingIntent)
                 .setOnlyAlertOnce(true);
+        mNotificationBuilder = notificationBuilder;
 
         return notificationBuilder.build();
     }
 
-    private void updateVpnNotification(String notificationText) {
-        Notification notification = getBraveVpnNotification(notificationText);
+    /** @return whether the notification changed. */
+    private boolean updateVpnNotification(String notificationText) {
+        Notification notification;
+        synchronized (this) {
+            if (notificationText.equals(mNotificationText)) return false;
+            notification = getBraveVpnNotification(notificationText);
+        }
         NotificationManager mNotificationManager =
                 (NotificationManager) mContext.getSystemService(Context.NOTIFICATION_SERVICE);
         mNotificationManager.notify(BRAVE_VPN_NOTIFICATION_ID, notification);
+        return true;
     }
 
     private void recordSessionTimes() {
@@ -164,33 +209,68 @@ public class WireguardServiceImpl
         }, 0, 60000);
     }
 
-    private void updateVpnStatisticsTimer() {
+    private synchronized void updateVpnStatisticsTimer() {
+        cancelVpnStatisticsTimer();
         mVpnStatisticsTimer = new Timer();
-        mVpnStatisticsTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                if (mBackend != null && mTunnelModel != null) {
-                    try {
-                        Statistics statistics = mBackend.getStatistics(mTunnelModel);
-                        updateVpnNotification(String.format(
-                                HtmlCompat
-                                        .fromHtml(mContext.getResources().getString(
-                                                          R.string.transfer_rx_tx),
-                                                HtmlCompat.FROM_HTML_MODE_LEGACY)
-                                        .toString(),
-                                WireguardUtils.formatBytes(mContext, statistics.totalRx()),
-                                WireguardUtils.formatBytes(mContext, statistics.totalTx())));
-                    } catch (Exception e) {
-                        e.printStackTrace();
+        mStatisticsIntervalMs = MIN_STATISTICS_INTERVAL_MS;
+        scheduleVpnStatistics(mVpnStatisticsTimer, 0);
+    }
+
+    private void scheduleVpnStatistics(Timer timer, long delayMs) {
+        try {
+            timer.schedule(new TimerTask() {
+                @Override
+                public void run() {
+                    long nextDelayMs = updateVpnStatistics();
+                    synchronized (WireguardServiceImpl.this) {
+                        if (timer == mVpnStatisticsTimer) {
+                            scheduleVpnStatistics(timer, nextDelayMs);
+                        }
                     }
                 }
+            }, delayMs);
+        } catch (IllegalStateException e) {
+            // The timer was cancelled in the meantime.
+        }
+    }
+
+    private boolean isTunnelUp() {
+        return mBackend != null && mTunnelModel != null
+                && mTunnelModel.getState() == Tunnel.State.UP;
+    }
+
+    /** @return the delay before the next update. */
+    private long updateVpnStatistics() {
+        boolean changed = false;
+        if (mBackend != null && mTunnelModel != null) {
+            try {
+                Statistics statistics = mBackend.getStatistics(mTunnelModel);
+                if (mTransferFormat == null) {
+                    mTransferFormat =
+                            HtmlCompat
+                                    .fromHtml(mContext.getResources().getString(
+                                                      R.string.transfer_rx_tx),
+                                            HtmlCompat.FROM_HTML_MODE_LEGACY)
+                                    .toString();
+                }
+                changed = updateVpnNotification(String.format(mTransferFormat,
+                        WireguardUtils.formatBytes(mContext, statistics.totalRx()),
+                        WireguardUtils.formatBytes(mContext, statistics.totalTx())));
+            } catch (Exception e) {
+                e.printStackTrace();
             }
-        }, 0, 500);
+        }
+        // Also backs off while there is no tunnel to poll.
+        mStatisticsIntervalMs = changed
+                ? MIN_STATISTICS_INTERVAL_MS
+                : Math.min(mStatisticsIntervalMs * 2, MAX_STATISTICS_INTERVAL_MS);
+        return mStatisticsIntervalMs;
     }
 
-    private void cancelVpnStatisticsTimer() {
+    private synchronized void cancelVpnStatisticsTimer() {
         if (mVpnStatisticsTimer != null) {
             mVpnStatisticsTimer.cancel();
+            mVpnStatisticsTimer = null;
         }
     }
 
@@ -207,6 +287,7 @@ public class WireguardServiceImpl
         } catch (Exception e) {
             e.printStackTrace();
         }
+        mContext.unregisterReceiver(mScreenStateReceiver);
         cancelVpnStatisticsTimer();
         cancelVpnRecordStatisticsTimer();
         super.onDestroy();
@@ -0,0 +1,134 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.base;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import androidx.test.filters.LargeTest;
+import androidx.test.filters.SmallTest;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.chromium.base.test.BaseJUnit4ClassRunner;
+import org.chromium.base.test.util.Batch;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+@Batch(Batch.UNIT_TESTS)
+@RunWith(BaseJUnit4ClassRunner.class)
+public class BraveReflectionUtilTest {
+    private static final String TAG = "ReflectionUtilTest";
+
+    private static final int ITERATIONS = 100000;
+    private static final int WARM_UP_ITERATIONS = 10000;
+
+    private static class Target {
+        private int mValue = 7;
+
+        private int add(int first, int second) {
+            return first + second + mValue;
+        }
+    }
+
+    @Test
+    @SmallTest
+    public void invokesMethodAndReadsFieldTest() {
+        Target target = new Target();
+        assertEquals(10, BraveReflectionUtil.InvokeMethod(
+                                 Target.class, target, "add", int.class, 1, int.class, 2));
+        // Served from the cache the second time.
+        assertEquals(12, BraveReflectionUtil.InvokeMethod(
+                                 Target.class, target, "add", int.class, 2, int.class, 3));
+        assertEquals(7, BraveReflectionUtil.getField(Target.class, "mValue", target));
+        target.mValue = 9;
+        assertEquals(9, BraveReflectionUtil.getField(Target.class, "mValue", target));
+    }
+
+    @Test
+    @SmallTest
+    public void missingMemberKeepsThrowingTest() {
+        // The second lookup is served from the cached failure.
+        for (int i = 0; i < 2; i++) {
+            try {
+                BraveReflectionUtil.getMethod(Target.class, "missing", new Class<?>[] {int.class});
+                fail("Expected NoSuchMethodException");
+            } catch (NoSuchMethodException e) {
+                // Expected.
+            }
+            try {
+                BraveReflectionUtil.getDeclaredField(Target.class, "mMissing");
+                fail("Expected NoSuchFieldException");
+            } catch (NoSuchFieldException e) {
+                // Expected.
+            }
+        }
+    }
+
+    /**
+     * Benchmarks cached invocations against looking the members up on every call, like before
+     * the cache. Both must return the same, and the cached ones must be faster.
+     */
+    @Test
+    @LargeTest
+    public void invocationBenchmarkTest() throws Exception {
+        Target target = new Target();
+        // Both paths are compiled and the members cached before timing.
+        runUncached(target, WARM_UP_ITERATIONS);
+        runCached(target, WARM_UP_ITERATIONS);
+
+        long uncachedStart = System.nanoTime();
+        int uncachedSum = runUncached(target, ITERATIONS);
+        long uncachedNanos = System.nanoTime() - uncachedStart;
+
+        long cachedStart = System.nanoTime();
+        int cachedSum = runCached(target, ITERATIONS);
+        long cachedNanos = System.nanoTime() - cachedStart;
+
+        assertEquals(uncachedSum, cachedSum);
+        String timings =
+                String.format(Locale.US, "Uncached: %d us, cached: %d us for %d invocations",
+                        uncachedNanos / 1000, cachedNanos / 1000, ITERATIONS);
+        Log.i(TAG, timings);
+        assertTrue(timings, cachedNanos < uncachedNanos);
+    }
+
+    private static int runUncached(Target target, int iterations) throws Exception {
+        int sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            sum += (int) uncachedInvoke(target, i);
+            sum += (int) uncachedGetField(target);
+        }
+        return sum;
+    }
+
+    private static int runCached(Target target, int iterations) {
+        int sum = 0;
+        for (int i = 0; i < iterations; i++) {
+            sum += (int) BraveReflectionUtil.InvokeMethod(
+                    Target.class, target, "add", int.class, i, int.class, 1);
+            sum += (int) BraveReflectionUtil.getField(Target.class, "mValue", target);
+        }
+        return sum;
+    }
+
+    // Mirrors the previous lookup on every call.
+    private static Object uncachedInvoke(Target target, int first) throws Exception {
+        Method method = Target.class.getDeclaredMethod("add", int.class, int.class);
+        if (!method.isAccessible()) method.setAccessible(true);
+        return method.invoke(target, first, 1);
+    }
+
+    private static Object uncachedGetField(Target target) throws Exception {
+        Field field = Target.class.getDeclaredField("mValue");
+        if (!field.isAccessible()) field.setAccessible(true);
+        return field.get(target);
+    }
+}
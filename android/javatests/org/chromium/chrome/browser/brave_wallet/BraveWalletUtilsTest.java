@@ -24,6 +24,7 @@ import org.chromium.brave_wallet.mojom.NetworkInfo;
 import org.chromium.brave_wallet.mojom.SwapParams;
 import org.chromium.brave_wallet.mojom.TxData;
 import org.chromium.brave_wallet.mojom.TxData1559;
+import org.chromium.chrome.browser.crypto_wallet.util.TokenAmount;
 import org.chromium.chrome.browser.crypto_wallet.util.Utils;
 import org.chromium.chrome.browser.crypto_wallet.util.Validations;
 import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
@@ -47,6 +48,32 @@ public class BraveWalletUtilsTest {
         assertEquals(Utils.fromHexWei("", 18), 0, 0.001);
     }
 
+    @Test
+    @SmallTest
+    public void tokenAmountTest() {
+        // Truncated, not rounded, to 8 decimals.
+        assertEquals(TokenAmount.fromUnits("123456789999", 18).toDouble(), 0.00000012, 0);
+        assertEquals(TokenAmount.fromHexUnits("0x4563918244F40000", 18).toDouble(), 5, 0);
+        assertEquals(TokenAmount.fromUnits("1500", 3).toDouble(), 1.5, 0);
+        assertEquals(TokenAmount.fromHexUnits("0x", 18).toDouble(), 0, 0);
+        assertEquals(TokenAmount.powerOfTen(100).toString().length(), 101);
+
+        // Sums are exact, with the larger number of decimals.
+        TokenAmount sum = TokenAmount.fromUnits("100000000000000001", 18)
+                                  .add(TokenAmount.fromUnits("200000000000000002", 18));
+        assertEquals(sum.toDouble(), 0.3, 0);
+        sum = TokenAmount.ZERO.add(TokenAmount.fromUnits("5", 1));
+        assertEquals(sum.toDouble(), 0.5, 0);
+        sum = TokenAmount.fromUnits("1", 0).add(TokenAmount.fromUnits("5", 1));
+        assertEquals(sum.toDouble(), 1.5, 0);
+
+        try {
+            TokenAmount.powerOfTen(-1);
+            fail("Negative exponents should be rejected");
+        } catch (IllegalArgumentException e) {
+        }
+    }
+
     @Test
     @SmallTest
     public void fromHexGWeiToGWEITest() {
@@ -138,6 +165,8 @@ public class BraveWalletUtilsTest {
     public void getDecimalsDepNumberTest() {
         assertEquals(Utils.getDecimalsDepNumber(9), "1000000000");
         assertEquals(Utils.getDecimalsDepNumber(18), "1000000000000000000");
+        assertEquals(Utils.getDecimalsDepNumber(0), "1");
+        assertEquals(Utils.getDecimalsDepNumber(-1), "1");
     }
 
     @Test
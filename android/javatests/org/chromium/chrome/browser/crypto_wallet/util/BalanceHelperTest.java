@@ -0,0 +1,105 @@
+/* Copyright (c) 2026 The Brave Authors. All rights reserved.
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this file,
+ * You can obtain one at https://mozilla.org/MPL/2.0/. */
+
+package org.chromium.chrome.browser.crypto_wallet.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import android.os.SystemClock;
+
+import androidx.test.filters.SmallTest;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.chromium.base.ThreadUtils;
+import org.chromium.base.test.util.Batch;
+import org.chromium.brave_wallet.mojom.ProviderError;
+import org.chromium.chrome.test.ChromeJUnit4ClassRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Batch(Batch.UNIT_TESTS)
+@RunWith(ChromeJUnit4ClassRunner.class)
+public class BalanceHelperTest {
+    @Test
+    @SmallTest
+    public void joinsPendingFetchAndServesCachedBalanceTest() {
+        ThreadUtils.runOnUiThreadBlocking(() -> {
+            Object jsonRpcService = new Object();
+            String key = "0x1|0xaccount|usdc";
+            List<BalanceHelper.TokenBalance> balances = new ArrayList<>();
+
+            assertTrue(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+            // Joins the pending fetch.
+            assertFalse(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+            assertEquals(0, balances.size());
+
+            BalanceHelper.TokenBalance balance = new BalanceHelper.TokenBalance(
+                    "0x10", 6, ProviderError.SUCCESS, SystemClock.elapsedRealtime());
+            BalanceHelper.onTokenBalanceFetched(jsonRpcService, key, balance);
+            assertEquals(2, balances.size());
+            assertEquals(balance, balances.get(0));
+            assertEquals(balance, balances.get(1));
+
+            // Served from the cache, without a fetch.
+            assertFalse(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+            assertEquals(3, balances.size());
+            assertEquals(balance, balances.get(2));
+
+            // A confirmed transaction on the chain drops the cached balance.
+            BalanceHelper.invalidateTokenBalances("0x1");
+            assertTrue(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+            BalanceHelper.onTokenBalanceFetched(jsonRpcService, key, balance);
+        });
+    }
+
+    @Test
+    @SmallTest
+    public void doesNotCacheFailedBalanceTest() {
+        ThreadUtils.runOnUiThreadBlocking(() -> {
+            Object jsonRpcService = new Object();
+            String key = "0x1|0xaccount|dai";
+            List<BalanceHelper.TokenBalance> balances = new ArrayList<>();
+
+            assertTrue(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+            BalanceHelper.onTokenBalanceFetched(jsonRpcService, key,
+                    new BalanceHelper.TokenBalance(null, null, ProviderError.INTERNAL_ERROR,
+                            SystemClock.elapsedRealtime()));
+            assertEquals(1, balances.size());
+            assertEquals(
+                    Integer.valueOf(ProviderError.INTERNAL_ERROR), balances.get(0).mError);
+
+            assertTrue(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+            BalanceHelper.onTokenBalanceFetched(jsonRpcService, key, null);
+            assertNull(balances.get(1));
+        });
+    }
+
+    @Test
+    @SmallTest
+    public void doesNotJoinFetchOfAnotherServiceTest() {
+        ThreadUtils.runOnUiThreadBlocking(() -> {
+            // The fetch pending on a service that was closed never completes.
+            Object closedJsonRpcService = new Object();
+            Object jsonRpcService = new Object();
+            String key = "0x89|0xaccount|usdt";
+            List<BalanceHelper.TokenBalance> balances = new ArrayList<>();
+
+            assertTrue(BalanceHelper.getTokenBalance(closedJsonRpcService, key, balances::add));
+            assertTrue(BalanceHelper.getTokenBalance(jsonRpcService, key, balances::add));
+
+            BalanceHelper.TokenBalance balance = new BalanceHelper.TokenBalance(
+                    "0x1", 6, ProviderError.SUCCESS, SystemClock.elapsedRealtime());
+            BalanceHelper.onTokenBalanceFetched(jsonRpcService, key, balance);
+            assertEquals(1, balances.size());
+            assertEquals(balance, balances.get(0));
+        });
+    }
+}